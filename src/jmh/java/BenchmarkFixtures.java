@@ -0,0 +1,460 @@
+import benchmarks.BettingPoolBenchmark;
+import benchmarks.FieldLoaderBenchmark;
+import benchmarks.Fixtures;
+import benchmarks.HippodromeBenchmark;
+import benchmarks.HorseBenchmark;
+import benchmarks.LeaderboardBenchmark;
+import benchmarks.MainBenchmark;
+import benchmarks.MoveKernelBenchmark;
+import benchmarks.MovementModelBenchmark;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+public class BenchmarkFixtures implements Fixtures {
+
+    private static final int NAMES = 1024;
+
+    static RaceField field(int size) {
+        String[] names = new String[Math.min(size, NAMES)];
+        for (int i = 0; i < names.length; i++) {
+            names[i] = "Name" + i;
+        }
+        RaceField field = new RaceField(size);
+        for (int i = 0; i < size; i++) {
+            field.add(names[i % names.length], 2.4 + (i % 7) / 10.0, 0);
+        }
+        return field;
+    }
+
+    static List<Horse> horses(int size) {
+        RaceField field = field(size);
+        List<Horse> horses = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            horses.add(new Horse(field, i));
+        }
+        return horses;
+    }
+
+    @Override
+    public HorseBenchmark.Fixture horse() {
+        return new HorseFixture();
+    }
+
+    @Override
+    public HippodromeBenchmark.Race race(int size, String engine) {
+        switch (engine) {
+            case "list":
+                return new HippodromeRace(new Hippodrome(horses(size)));
+            case "packed":
+                return new HippodromeRace(Hippodrome.of(field(size)));
+            case "instrumented":
+                Hippodrome instrumented = Hippodrome.of(field(size));
+                instrumented.setMetrics(new RaceMetrics());
+                return new HippodromeRace(instrumented);
+            case "parallel":
+                return new ParallelRace(Hippodrome.of(field(size)), new ParallelMover(42L));
+            default:
+                throw new IllegalArgumentException("Unknown engine " + engine);
+        }
+    }
+
+    @Override
+    public LeaderboardBenchmark.Standings standings(int size) {
+        return new Standings(size);
+    }
+
+    @Override
+    public MainBenchmark.Screen screen(int size, int rows) {
+        return new Screen(size, rows);
+    }
+
+    @Override
+    public MoveKernelBenchmark.Kernel kernel(int size, String kernel) {
+        RaceField field = field(size);
+        switch (kernel) {
+            case "field":
+                return new FieldKernel(field);
+            case "scalar":
+                return new BulkKernel(field, BulkMover.scalar(42L));
+            case "vector":
+                BulkMover mover = new BulkMover(42L);
+                if (!mover.isVectorized()) {
+                    throw new IllegalStateException("Vector API is not available.");
+                }
+                return new BulkKernel(field, mover);
+            default:
+                throw new IllegalArgumentException("Unknown kernel " + kernel);
+        }
+    }
+
+    @Override
+    public MovementModelBenchmark.Models models(int size, String models) {
+        ModelMover mover = new ModelMover(size, 42L);
+        MovementModel[] mix = {MovementModel.uniform(), MovementModel.fatigue(0.001),
+                MovementModel.acceleration(0.5, 100)};
+        for (int i = 0; i < size; i++) {
+            switch (models) {
+                case "uniform":
+                    break;
+                case "fatigue":
+                    mover.assign(i, mix[1]);
+                    break;
+                case "acceleration":
+                    mover.assign(i, mix[2]);
+                    break;
+                case "mixed":
+                    mover.assign(i, i % mix.length == 1
+                            ? MovementModel.fatigue(0.001 * (1 + i % 4)) : mix[i % mix.length]);
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown models " + models);
+            }
+        }
+        return new Models(field(size), mover);
+    }
+
+    @Override
+    public FieldLoaderBenchmark.Source source(int size, String source) {
+        if (source.equals("constructors")) {
+            return new ConstructorSource(size);
+        }
+        try {
+            Path file = Files.createTempFile("field", "." + source);
+            file.toFile().deleteOnExit();
+            RaceField field = field(size);
+            switch (source) {
+                case "bin":
+                    FieldLoader.writeBinary(file, field);
+                    break;
+                case "csv":
+                    StringBuilder csv = new StringBuilder("name,speed,distance\n");
+                    for (int i = 0; i < size; i++) {
+                        csv.append(field.getName(i)).append(',').append(field.getSpeed(i)).append(",0\n");
+                    }
+                    Files.writeString(file, csv);
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown source " + source);
+            }
+            return new FileSource(file);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public BettingPoolBenchmark.Pool pool(int size, String pool) {
+        switch (pool) {
+            case "striped":
+                return new StripedPool(size);
+            case "locked":
+                return new LockedPool(size);
+            default:
+                throw new IllegalArgumentException("Unknown pool " + pool);
+        }
+    }
+
+    private static final class HorseFixture implements HorseBenchmark.Fixture {
+
+        private final Horse horse = new Horse("Bucephalus", 2.4);
+
+        @Override
+        public void move() {
+            horse.move();
+        }
+
+        @Override
+        public double getRandomDouble() {
+            return Horse.getRandomDouble(0.2, 0.9);
+        }
+    }
+
+    private static class HippodromeRace implements HippodromeBenchmark.Race {
+
+        final Hippodrome hippodrome;
+
+        HippodromeRace(Hippodrome hippodrome) {
+            this.hippodrome = hippodrome;
+        }
+
+        @Override
+        public void move() {
+            hippodrome.move();
+        }
+
+        @Override
+        public Object getWinner() {
+            return hippodrome.getWinner();
+        }
+
+        @Override
+        public int getWinnerIndex() {
+            return hippodrome.getField().getWinnerIndex();
+        }
+
+        @Override
+        public Object getHorses() {
+            return hippodrome.getHorses();
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+
+    private static final class ParallelRace extends HippodromeRace {
+
+        private final ParallelMover mover;
+
+        ParallelRace(Hippodrome hippodrome, ParallelMover mover) {
+            super(hippodrome);
+            this.mover = mover;
+        }
+
+        @Override
+        public void move() {
+            hippodrome.move(mover);
+        }
+
+        @Override
+        public void close() {
+            mover.close();
+        }
+    }
+
+    private static final class Standings implements LeaderboardBenchmark.Standings {
+
+        private final Hippodrome hippodrome;
+        private final RaceField field;
+        private final Horse probe;
+
+        Standings(int size) {
+            this.field = field(size);
+            this.hippodrome = Hippodrome.of(field);
+            this.probe = field.getHorse(size / 2);
+            hippodrome.move();
+        }
+
+        @Override
+        public Object streamMax() {
+            return field.asHorses().stream().max(Comparator.comparing(Horse::getDistance)).get();
+        }
+
+        @Override
+        public Object getWinner() {
+            return hippodrome.getWinner();
+        }
+
+        @Override
+        public Object getTopK(int k) {
+            List<Horse> top = hippodrome.getTopK(k);
+            return top.get(top.size() - 1);
+        }
+
+        @Override
+        public int getRank() {
+            return hippodrome.getRank(probe);
+        }
+
+        @Override
+        public Object moveAndUpdate() {
+            hippodrome.move();
+            return hippodrome.getLeaderboard();
+        }
+    }
+
+    private static final class Screen implements MainBenchmark.Screen {
+
+        private final Hippodrome hippodrome;
+        private final TerminalRenderer renderer;
+
+        Screen(int size, int rows) {
+            this.hippodrome = Hippodrome.of(field(size));
+            this.renderer = new TerminalRenderer(new NullChannel(), rows, 120, 0);
+            hippodrome.move();
+        }
+
+        @Override
+        public boolean render() {
+            try {
+                return renderer.render(hippodrome);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        @Override
+        public boolean moveAndRender() {
+            hippodrome.move();
+            return render();
+        }
+    }
+
+    private static final class FieldKernel implements MoveKernelBenchmark.Kernel {
+
+        private final RaceField field;
+
+        FieldKernel(RaceField field) {
+            this.field = field;
+        }
+
+        @Override
+        public void move() {
+            field.move();
+        }
+    }
+
+    private static final class BulkKernel implements MoveKernelBenchmark.Kernel {
+
+        private final RaceField field;
+        private final BulkMover mover;
+
+        BulkKernel(RaceField field, BulkMover mover) {
+            this.field = field;
+            this.mover = mover;
+        }
+
+        @Override
+        public void move() {
+            mover.move(field);
+        }
+    }
+
+    private static final class Models implements MovementModelBenchmark.Models {
+
+        private final RaceField field;
+        private final ModelMover mover;
+
+        Models(RaceField field, ModelMover mover) {
+            this.field = field;
+            this.mover = mover;
+        }
+
+        @Override
+        public void move() {
+            mover.move(field);
+        }
+    }
+
+    private static final class ConstructorSource implements FieldLoaderBenchmark.Source {
+
+        private final int size;
+
+        ConstructorSource(int size) {
+            this.size = size;
+        }
+
+        @Override
+        public Object load() {
+            List<Horse> horses = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                horses.add(new Horse("Name" + i % NAMES, 2.4 + (i % 7) / 10.0));
+            }
+            return new Hippodrome(horses);
+        }
+    }
+
+    private static final class FileSource implements FieldLoaderBenchmark.Source {
+
+        private final Path file;
+
+        FileSource(Path file) {
+            this.file = file;
+        }
+
+        @Override
+        public Object load() {
+            try {
+                return FieldLoader.load(file);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    private static final class StripedPool implements BettingPoolBenchmark.Pool {
+
+        private final int size;
+        private final BettingPool betting;
+
+        StripedPool(int size) {
+            this.size = size;
+            this.betting = new BettingPool(Hippodrome.of(field(size)));
+        }
+
+        @Override
+        public void bet() {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            betting.placeBet(random.nextInt(size), 1 + random.nextInt(100));
+        }
+
+        @Override
+        public Object odds() {
+            return betting.getOdds();
+        }
+    }
+
+    private static final class LockedPool implements BettingPoolBenchmark.Pool {
+
+        private final int size;
+        private final Map<Integer, Long> stakes = new HashMap<>();
+
+        LockedPool(int size) {
+            this.size = size;
+        }
+
+        @Override
+        public void bet() {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            int horse = random.nextInt(size);
+            long stake = 1 + random.nextInt(100);
+            synchronized (stakes) {
+                stakes.merge(horse, stake, Long::sum);
+                stakes.merge(-1, stake, Long::sum);
+            }
+        }
+
+        @Override
+        public Object odds() {
+            synchronized (stakes) {
+                double[] result = new double[size];
+                long total = stakes.getOrDefault(-1, 0L);
+                for (int i = 0; i < size; i++) {
+                    long stake = stakes.getOrDefault(i, 0L);
+                    result[i] = stake == 0 ? Double.POSITIVE_INFINITY : (double) total / stake;
+                }
+                return result;
+            }
+        }
+    }
+
+    static final class NullChannel implements WritableByteChannel {
+
+        @Override
+        public int write(ByteBuffer src) {
+            int remaining = src.remaining();
+            src.position(src.limit());
+            return remaining;
+        }
+
+        @Override
+        public boolean isOpen() {
+            return true;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Group)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BettingPoolBenchmark {
+
+    public interface Pool {
+
+        void bet();
+
+        Object odds();
+    }
+
+    @Param({"8", "64"})
+    public int size;
+
+    @Param({"striped", "locked"})
+    public String pool;
+
+    private Pool fixture;
+
+    @Setup
+    public void setUp() {
+        fixture = Fixtures.load().pool(size, pool);
+    }
+
+    @Benchmark
+    @Group("load")
+    @GroupThreads(4)
+    public void placeBet() {
+        fixture.bet();
+    }
+
+    @Benchmark
+    @Group("load")
+    @GroupThreads(1)
+    public Object getOdds() {
+        return fixture.odds();
+    }
+}
@@ -0,0 +1,27 @@
+package benchmarks;
+
+import java.util.ServiceLoader;
+
+public interface Fixtures {
+
+    HorseBenchmark.Fixture horse();
+
+    HippodromeBenchmark.Race race(int size, String engine);
+
+    LeaderboardBenchmark.Standings standings(int size);
+
+    MainBenchmark.Screen screen(int size, int rows);
+
+    MoveKernelBenchmark.Kernel kernel(int size, String kernel);
+
+    MovementModelBenchmark.Models models(int size, String models);
+
+    FieldLoaderBenchmark.Source source(int size, String source);
+
+    BettingPoolBenchmark.Pool pool(int size, String pool);
+
+    static Fixtures load() {
+        return ServiceLoader.load(Fixtures.class).findFirst()
+                .orElseThrow(() -> new IllegalStateException("No provider for " + Fixtures.class.getName()));
+    }
+}
@@ -0,0 +1,128 @@
+package benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx8g"})
+public class HippodromeBenchmark {
+
+    public interface Race extends AutoCloseable {
+
+        void move();
+
+        Object getWinner();
+
+        int getWinnerIndex();
+
+        Object getHorses();
+
+        @Override
+        void close();
+    }
+
+    @State(Scope.Thread)
+    public static class Move {
+
+        @Param({"7", "1000", "100000", "1000000", "10000000"})
+        public int size;
+
+        @Param({"list", "packed", "instrumented", "parallel"})
+        public String engine;
+
+        private Race race;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            race = Fixtures.load().race(size, engine);
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            race.close();
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Winner {
+
+        @Param({"7", "1000", "100000", "1000000", "10000000"})
+        public int size;
+
+        @Param({"list", "packed"})
+        public String engine;
+
+        private Race race;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            race = Fixtures.load().race(size, engine);
+            race.move();
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Scan {
+
+        @Param({"7", "1000", "100000", "1000000", "10000000"})
+        public int size;
+
+        private Race race;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            race = Fixtures.load().race(size, "packed");
+            race.move();
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Horses {
+
+        @Param({"7", "1000", "100000", "1000000", "10000000"})
+        public int size;
+
+        private Race race;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            race = Fixtures.load().race(size, "list");
+        }
+    }
+
+    @Benchmark
+    public void move(Move state) {
+        state.race.move();
+    }
+
+    @Benchmark
+    public Object getWinner(Winner state) {
+        return state.race.getWinner();
+    }
+
+    @Benchmark
+    public int getWinnerIndex(Scan state) {
+        return state.race.getWinnerIndex();
+    }
+
+    @Benchmark
+    public Object getHorses(Horses state) {
+        return state.race.getHorses();
+    }
+}
@@ -0,0 +1,47 @@
+package benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HorseBenchmark {
+
+    public interface Fixture {
+
+        void move();
+
+        double getRandomDouble();
+    }
+
+    private Fixture horse;
+
+    @Setup
+    public void setUp() {
+        horse = Fixtures.load().horse();
+    }
+
+    @Benchmark
+    public void move() {
+        horse.move();
+    }
+
+    @Benchmark
+    public double getRandomDouble() {
+        return horse.getRandomDouble();
+    }
+}
@@ -0,0 +1,72 @@
+package benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx4g"})
+public class LeaderboardBenchmark {
+
+    public interface Standings {
+
+        Object streamMax();
+
+        Object getWinner();
+
+        Object getTopK(int k);
+
+        int getRank();
+
+        Object moveAndUpdate();
+    }
+
+    @Param({"10000", "1000000"})
+    public int size;
+
+    private Standings standings;
+
+    @Setup
+    public void setUp() {
+        standings = Fixtures.load().standings(size);
+    }
+
+    @Benchmark
+    public Object streamMax() {
+        return standings.streamMax();
+    }
+
+    @Benchmark
+    public Object getWinner() {
+        return standings.getWinner();
+    }
+
+    @Benchmark
+    public Object getTopK() {
+        return standings.getTopK(10);
+    }
+
+    @Benchmark
+    public int getRank() {
+        return standings.getRank();
+    }
+
+    @Benchmark
+    public Object moveAndUpdate() {
+        return standings.moveAndUpdate();
+    }
+}
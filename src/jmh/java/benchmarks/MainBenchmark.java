@@ -0,0 +1,54 @@
+package benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MainBenchmark {
+
+    public interface Screen {
+
+        boolean render();
+
+        boolean moveAndRender();
+    }
+
+    @Param({"7", "1000", "100000"})
+    public int size;
+
+    @Param({"50"})
+    public int rows;
+
+    private Screen screen;
+
+    @Setup
+    public void setUp() {
+        screen = Fixtures.load().screen(size, rows);
+    }
+
+    @Benchmark
+    public boolean watchFrame() {
+        return screen.render();
+    }
+
+    @Benchmark
+    public boolean moveAndRender() {
+        return screen.moveAndRender();
+    }
+}
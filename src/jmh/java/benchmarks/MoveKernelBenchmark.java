@@ -0,0 +1,47 @@
+package benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MoveKernelBenchmark {
+
+    public interface Kernel {
+
+        void move();
+    }
+
+    @Param({"1000", "100000", "1000000"})
+    public int size;
+
+    @Param({"field", "scalar", "vector"})
+    public String kernel;
+
+    private Kernel move;
+
+    @Setup
+    public void setUp() {
+        move = Fixtures.load().kernel(size, kernel);
+    }
+
+    @Benchmark
+    public void move() {
+        move.move();
+    }
+}
@@ -0,0 +1,47 @@
+package benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MovementModelBenchmark {
+
+    public interface Models {
+
+        void move();
+    }
+
+    @Param({"1000", "100000"})
+    public int size;
+
+    @Param({"uniform", "fatigue", "acceleration", "mixed"})
+    public String models;
+
+    private Models move;
+
+    @Setup
+    public void setUp() {
+        move = Fixtures.load().models(size, models);
+    }
+
+    @Benchmark
+    public void modelMove() {
+        move.move();
+    }
+}
@@ -0,0 +1,293 @@
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.math.BigInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+import static java.util.Objects.isNull;
+
+public class BettingPool {
+
+    public enum State {
+        OPEN, CLOSED, SETTLED
+    }
+
+    private static final int PADDING = 16;
+    private static final int MAX_STRIPES = 64;
+    private static final int BETS = 0;
+    private static final int ACTIVE = 1;
+    private static final int STRIDE = 2 + PADDING;
+
+    private final Hippodrome hippodrome;
+    private final int horses;
+    private final double takeout;
+    private final int mask;
+    private final LongAdder[] stakes;
+    private final AtomicLongArray stripes;
+    private final AtomicReference<State> state = new AtomicReference<>(State.OPEN);
+    private volatile long[] finalStakes;
+    private volatile long finalTotal;
+    private volatile long finalBets;
+    private volatile Settlement settlement;
+    private static final Logger logger = LogManager.getLogger(BettingPool.class);
+
+    public BettingPool(Hippodrome hippodrome) {
+        this(hippodrome, 0);
+    }
+
+    public BettingPool(Hippodrome hippodrome, double takeout) {
+        if (isNull(hippodrome)) {
+            logger.error("BettingPool: hippodrome is null");
+            throw new IllegalArgumentException("Hippodrome cannot be null.");
+        }
+        if (!(takeout >= 0 && takeout < 1)) {
+            logger.error("BettingPool: takeout is out of range");
+            throw new IllegalArgumentException("Takeout must be between 0 and 1.");
+        }
+
+        this.hippodrome = hippodrome;
+        this.horses = hippodrome.getHorses().size();
+        this.takeout = takeout;
+        int stripes = Math.min(MAX_STRIPES,
+                Math.max(4, Integer.highestOneBit(Runtime.getRuntime().availableProcessors() * 2 - 1) << 1));
+        this.mask = stripes - 1;
+        this.stakes = new LongAdder[horses];
+        for (int i = 0; i < horses; i++) {
+            this.stakes[i] = new LongAdder();
+        }
+        this.stripes = new AtomicLongArray(stripes * STRIDE + PADDING);
+        logger.debug("Создание BettingPool, лошадей {}, полос {}, комиссия {}, память {} байт", horses, stripes,
+                takeout, 8L * (stripes * STRIDE + PADDING));
+    }
+
+    public Ticket placeBet(Horse horse, long stake) {
+        if (isNull(horse)) {
+            logger.error("BettingPool: horse is null");
+            throw new IllegalArgumentException("Horse cannot be null.");
+        }
+        return placeBet(hippodrome.indexOf(horse), stake);
+    }
+
+    public Ticket placeBet(int horse, long stake) {
+        if (horse < 0 || horse >= horses) {
+            logger.error("BettingPool: horse {} is not in this race", horse);
+            throw new IllegalArgumentException("Horse is not in this race.");
+        }
+        if (stake <= 0) {
+            logger.error("BettingPool: stake is not positive");
+            throw new IllegalArgumentException("Stake must be positive.");
+        }
+        int stripe = stripe();
+        int row = stripe * STRIDE;
+        AtomicLongArray stripes = this.stripes;
+        stripes.getAndIncrement(row + ACTIVE);
+        try {
+            if (state.get() != State.OPEN) {
+                throw new IllegalStateException("Betting is closed.");
+            }
+            stakes[horse].add(stake);
+            long sequence = stripes.getAndIncrement(row + BETS);
+            return new Ticket(this, sequence * (mask + 1) + stripe, horse, stake);
+        } finally {
+            stripes.getAndDecrement(row + ACTIVE);
+        }
+    }
+
+    public State getState() {
+        return state.get();
+    }
+
+    public int getHorseCount() {
+        return horses;
+    }
+
+    public long getStake(int horse) {
+        if (horse < 0 || horse >= horses) {
+            throw new IllegalArgumentException("Horse is not in this race.");
+        }
+        long[] stakes = finalStakes;
+        return stakes != null ? stakes[horse] : this.stakes[horse].sum();
+    }
+
+    public long getPool() {
+        if (finalStakes != null) {
+            return finalTotal;
+        }
+        long total = 0;
+        for (LongAdder stake : stakes) {
+            total += stake.sum();
+        }
+        return total;
+    }
+
+    public long getBetCount() {
+        return finalStakes != null ? finalBets : sum(BETS);
+    }
+
+    public double getOdds(int horse) {
+        long stake = getStake(horse);
+        return stake == 0 ? Double.POSITIVE_INFINITY : getPool() * (1 - takeout) / stake;
+    }
+
+    public double[] getOdds() {
+        long[] stakes = finalStakes;
+        long total = finalTotal;
+        if (stakes == null) {
+            stakes = new long[horses];
+            total = 0;
+            for (int i = 0; i < horses; i++) {
+                stakes[i] = this.stakes[i].sum();
+                total += stakes[i];
+            }
+        }
+        double[] odds = new double[horses];
+        double net = total * (1 - takeout);
+        for (int i = 0; i < horses; i++) {
+            odds[i] = stakes[i] == 0 ? Double.POSITIVE_INFINITY : net / stakes[i];
+        }
+        return odds;
+    }
+
+    public boolean close() {
+        if (!state.compareAndSet(State.OPEN, State.CLOSED)) {
+            return false;
+        }
+        while (sum(ACTIVE) != 0) {
+            Thread.onSpinWait();
+        }
+        long[] frozen = new long[horses];
+        long total = 0;
+        for (int i = 0; i < horses; i++) {
+            frozen[i] = stakes[i].sum();
+            total += frozen[i];
+        }
+        finalTotal = total;
+        finalBets = sum(BETS);
+        finalStakes = frozen;
+        logger.info("Приём ставок закрыт, ставок {}, пул {}", finalBets, finalTotal);
+        return true;
+    }
+
+    public synchronized Settlement settle() {
+        if (settlement != null) {
+            return settlement;
+        }
+        if (state.get() == State.OPEN) {
+            throw new IllegalStateException("Betting is still open.");
+        }
+        if (!hippodrome.isFinished()) {
+            throw new IllegalStateException("Race is not finished.");
+        }
+        while (finalStakes == null) {
+            Thread.onSpinWait();
+        }
+        Horse winner = hippodrome.getWinner();
+        long[] stakes = finalStakes;
+        int index = hippodrome.indexOf(winner);
+        settlement = new Settlement(this, index, winner.getName(), finalTotal,
+                (long) Math.floor(finalTotal * (1 - takeout)), stakes[index]);
+        state.set(State.SETTLED);
+        logger.info("Расчёт ставок: победитель {}, пул {}, выплата {}", settlement.getWinnerName(),
+                settlement.getPool(), settlement.getNetPool());
+        return settlement;
+    }
+
+    private long sum(int slot) {
+        long sum = 0;
+        for (int stripe = 0; stripe <= mask; stripe++) {
+            sum += stripes.get(stripe * STRIDE + slot);
+        }
+        return sum;
+    }
+
+    private int stripe() {
+        long id = Thread.currentThread().getId();
+        return (int) (id ^ (id >>> 16)) & mask;
+    }
+
+    public static class Ticket {
+
+        private final BettingPool pool;
+        private final long id;
+        private final int horse;
+        private final long stake;
+
+        Ticket(BettingPool pool, long id, int horse, long stake) {
+            this.pool = pool;
+            this.id = id;
+            this.horse = horse;
+            this.stake = stake;
+        }
+
+        public long getId() {
+            return id;
+        }
+
+        public int getHorse() {
+            return horse;
+        }
+
+        public long getStake() {
+            return stake;
+        }
+    }
+
+    public static class Settlement {
+
+        private final BettingPool pool;
+        private final int winner;
+        private final String winnerName;
+        private final long total;
+        private final long net;
+        private final long winnerStake;
+
+        Settlement(BettingPool pool, int winner, String winnerName, long total, long net, long winnerStake) {
+            this.pool = pool;
+            this.winner = winner;
+            this.winnerName = winnerName;
+            this.total = total;
+            this.net = net;
+            this.winnerStake = winnerStake;
+        }
+
+        public int getWinner() {
+            return winner;
+        }
+
+        public String getWinnerName() {
+            return winnerName;
+        }
+
+        public long getPool() {
+            return total;
+        }
+
+        public long getNetPool() {
+            return net;
+        }
+
+        public long getWinnerStake() {
+            return winnerStake;
+        }
+
+        public boolean isRefund() {
+            return winnerStake == 0;
+        }
+
+        public long getPayout(Ticket ticket) {
+            if (isNull(ticket) || ticket.pool != pool) {
+                throw new IllegalArgumentException("Ticket is not from this pool.");
+            }
+            if (isRefund()) {
+                return ticket.stake;
+            }
+            if (ticket.horse != winner) {
+                return 0;
+            }
+            return BigInteger.valueOf(ticket.stake).multiply(BigInteger.valueOf(net))
+                    .divide(BigInteger.valueOf(winnerStake)).longValueExact();
+        }
+    }
+}
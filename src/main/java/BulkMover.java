@@ -0,0 +1,60 @@
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.lang.reflect.InvocationTargetException;
+
+import static java.util.Objects.isNull;
+
+public class BulkMover {
+
+    private static final String VECTOR_MODULE = "jdk.incubator.vector";
+    private static final String VECTOR_KERNEL = "VectorMoveKernel";
+
+    private final MoveKernel kernel;
+    private static final Logger logger = LogManager.getLogger(BulkMover.class);
+
+    public BulkMover(long seed) {
+        this(createKernel(seed, Boolean.parseBoolean(System.getProperty("hippodrome.vector", "true"))));
+    }
+
+    BulkMover(MoveKernel kernel) {
+        this.kernel = kernel;
+        logger.debug("Создание BulkMover, векторное ядро {}, линий {}", kernel.isVectorized(), MoveKernel.LANES);
+    }
+
+    static BulkMover scalar(long seed) {
+        return new BulkMover(new ScalarMoveKernel(seed));
+    }
+
+    public boolean isVectorized() {
+        return kernel.isVectorized();
+    }
+
+    public int getLanes() {
+        return MoveKernel.LANES;
+    }
+
+    void reseed(long seed) {
+        kernel.reseed(seed);
+    }
+
+    public void move(RaceField field) {
+        if (isNull(field)) {
+            throw new IllegalArgumentException("Field cannot be null.");
+        }
+        kernel.move(field.speeds(), field.distances(), 0, field.size());
+        field.touch();
+    }
+
+    static MoveKernel createKernel(long seed, boolean vectorized) {
+        if (vectorized && ModuleLayer.boot().findModule(VECTOR_MODULE).isPresent()) {
+            try {
+                return (MoveKernel) Class.forName(VECTOR_KERNEL).getDeclaredConstructor(long.class).newInstance(seed);
+            } catch (ReflectiveOperationException | LinkageError e) {
+                Throwable cause = e instanceof InvocationTargetException ? e.getCause() : e;
+                logger.debug("Векторное ядро недоступно: {}", cause.toString());
+            }
+        }
+        return new ScalarMoveKernel(seed);
+    }
+}
@@ -0,0 +1,36 @@
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+
+public class FieldLoadException extends IOException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final List<String> errors;
+    private final long errorCount;
+
+    public FieldLoadException(List<String> errors, long errorCount) {
+        super(message(errors, errorCount));
+        this.errors = Collections.unmodifiableList(errors);
+        this.errorCount = errorCount;
+    }
+
+    public List<String> getErrors() {
+        return errors;
+    }
+
+    public long getErrorCount() {
+        return errorCount;
+    }
+
+    private static String message(List<String> errors, long errorCount) {
+        StringBuilder message = new StringBuilder("Field file has ").append(errorCount).append(" invalid entries.");
+        for (String error : errors) {
+            message.append(System.lineSeparator()).append(error);
+        }
+        if (errorCount > errors.size()) {
+            message.append(System.lineSeparator()).append("... ").append(errorCount - errors.size()).append(" more.");
+        }
+        return message.toString();
+    }
+}
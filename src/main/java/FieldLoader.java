@@ -0,0 +1,443 @@
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static java.util.Objects.isNull;
+
+public class FieldLoader {
+
+    static final int MAGIC = 0x48464C44;
+    static final int VERSION = 1;
+    public static final int MAX_REPORTED_ERRORS = 100;
+    private static final int BUFFER_SIZE = 1 << 20;
+    private static final int INITIAL_CAPACITY = 1024;
+    private static final double[] POWERS_OF_TEN = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+            1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+
+    private String[] names = new String[INITIAL_CAPACITY];
+    private double[] speeds = new double[INITIAL_CAPACITY];
+    private double[] distances = new double[INITIAL_CAPACITY];
+    private int size;
+    private final List<String> errors = new ArrayList<>();
+    private long errorCount;
+    private byte[] quoted = new byte[64];
+    private double parsed;
+    private static final Logger logger = LogManager.getLogger(FieldLoader.class);
+
+    private FieldLoader() {
+    }
+
+    public static Hippodrome load(Path file) throws IOException {
+        return Hippodrome.of(read(file));
+    }
+
+    public static RaceField read(Path file) throws IOException {
+        checkFile(file);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer magic = ByteBuffer.allocate(Integer.BYTES);
+            while (magic.hasRemaining() && channel.read(magic) >= 0) {
+                continue;
+            }
+            boolean binary = !magic.hasRemaining() && magic.getInt(0) == MAGIC;
+            channel.position(0);
+            return binary ? new FieldLoader().binary(channel, file, 0, Integer.MAX_VALUE)
+                    : new FieldLoader().csv(channel, file);
+        }
+    }
+
+    public static RaceField readCsv(Path file) throws IOException {
+        checkFile(file);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return new FieldLoader().csv(channel, file);
+        }
+    }
+
+    public static RaceField readBinary(Path file) throws IOException {
+        checkFile(file);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return new FieldLoader().binary(channel, file, 0, Integer.MAX_VALUE);
+        }
+    }
+
+    public static RaceField readBinary(Path file, int from, int to) throws IOException {
+        checkFile(file);
+        if (from < 0 || to <= from) {
+            logger.error("FieldLoader: range [{}, {}) is empty or negative", from, to);
+            throw new IllegalArgumentException("Range must be non-empty and not negative.");
+        }
+        if (to > binarySize(file)) {
+            logger.error("FieldLoader: range [{}, {}) is outside of {}", from, to, file);
+            throw new IllegalArgumentException("Range must be within the field.");
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return new FieldLoader().binary(channel, file, from, to);
+        }
+    }
+
+    public static int binarySize(Path file) throws IOException {
+        checkFile(file);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer data = ByteBuffer.allocate(3 * Integer.BYTES);
+            while (data.hasRemaining() && channel.read(data) >= 0) {
+                continue;
+            }
+            data.flip();
+            return header(data, file);
+        }
+    }
+
+    public static void writeBinary(Path file, RaceField field) throws IOException {
+        checkFile(file);
+        if (isNull(field)) {
+            logger.error("FieldLoader: field is null");
+            throw new IllegalArgumentException("Field cannot be null.");
+        }
+
+        int size = field.size();
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+            buffer.putInt(MAGIC).putInt(VERSION).putInt(size);
+            for (int i = 0; i < size; i++) {
+                buffer = flushIfFull(channel, buffer, Double.BYTES);
+                buffer.putDouble(field.getSpeed(i));
+            }
+            for (int i = 0; i < size; i++) {
+                buffer = flushIfFull(channel, buffer, Double.BYTES);
+                buffer.putDouble(field.getDistance(i));
+            }
+            for (int i = 0; i < size; i++) {
+                byte[] name = field.getName(i).getBytes(StandardCharsets.UTF_8);
+                buffer = flushIfFull(channel, buffer, Integer.BYTES + name.length);
+                buffer.putInt(name.length).put(name);
+            }
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        }
+        logger.debug("Запись поля в {}, лошадей {}", file, size);
+    }
+
+    private RaceField csv(FileChannel channel, Path file) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+        long line = 0;
+        boolean eof = false;
+        while (!eof) {
+            eof = channel.read(buffer) < 0;
+            byte[] bytes = buffer.array();
+            int limit = buffer.position();
+            int start = 0;
+            for (int i = 0; i < limit; i++) {
+                if (bytes[i] == '\n') {
+                    parseLine(bytes, start, i, ++line);
+                    start = i + 1;
+                }
+            }
+            if (eof) {
+                if (start < limit) {
+                    parseLine(bytes, start, limit, ++line);
+                }
+            } else if (start == 0 && limit == bytes.length) {
+                buffer = ByteBuffer.allocate(bytes.length * 2).put(bytes, 0, limit);
+            } else {
+                buffer.flip().position(start);
+                buffer.compact();
+            }
+        }
+        return finish(file, line);
+    }
+
+    private void parseLine(byte[] bytes, int from, int to, long line) {
+        if (to > from && bytes[to - 1] == '\r') {
+            to--;
+        }
+        if (to == from || bytes[from] == '#') {
+            return;
+        }
+
+        int p = from;
+        String name;
+        if (bytes[p] == '"') {
+            int length = 0;
+            p++;
+            while (true) {
+                if (p >= to) {
+                    error("Line " + line + ": Unterminated quoted name.");
+                    return;
+                }
+                byte b = bytes[p++];
+                if (b == '"') {
+                    if (p < to && bytes[p] == '"') {
+                        p++;
+                    } else {
+                        break;
+                    }
+                }
+                if (length == quoted.length) {
+                    quoted = Arrays.copyOf(quoted, length * 2);
+                }
+                quoted[length++] = b;
+            }
+            name = decode(quoted, 0, length);
+        } else {
+            int end = p;
+            while (end < to && bytes[end] != ',') {
+                end++;
+            }
+            name = decode(bytes, p, end - p);
+            p = end;
+        }
+        if (line == 1 && name.equalsIgnoreCase("name")) {
+            return;
+        }
+        if (p >= to || bytes[p] != ',') {
+            error("Line " + line + ": Expected name,speed[,distance].");
+            return;
+        }
+
+        int end = ++p;
+        while (end < to && bytes[end] != ',') {
+            end++;
+        }
+        if (!parseDouble(bytes, p, end)) {
+            error("Line " + line + ": Speed is not a number.");
+            return;
+        }
+        double speed = parsed;
+        double distance = 0;
+        if (end < to) {
+            p = end + 1;
+            end = p;
+            while (end < to && bytes[end] != ',') {
+                end++;
+            }
+            if (end < to) {
+                error("Line " + line + ": Expected name,speed[,distance].");
+                return;
+            }
+            if (!parseDouble(bytes, p, end)) {
+                error("Line " + line + ": Distance is not a number.");
+                return;
+            }
+            distance = parsed;
+        }
+        add(name, speed, distance, "Line ", line);
+    }
+
+    private RaceField binary(FileChannel channel, Path file, int from, int to) throws IOException {
+        if (channel.size() > Integer.MAX_VALUE) {
+            logger.error("FieldLoader: {} is too large", file);
+            throw new IOException("Field file is too large: " + file);
+        }
+        MappedByteBuffer data = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        try {
+            int size = header(data, file);
+            if ((long) size * 2 * Double.BYTES > data.remaining()) {
+                throw new IOException("Truncated field file: " + file);
+            }
+            int end = Math.min(to, size);
+            int count = Math.max(0, end - from);
+            double[] speeds = new double[count];
+            double[] distances = new double[count];
+            int speedStart = data.position();
+            data.position(speedStart + from * Double.BYTES);
+            data.asDoubleBuffer().get(speeds);
+            data.position(speedStart + size * Double.BYTES + from * Double.BYTES);
+            data.asDoubleBuffer().get(distances);
+            data.position(speedStart + 2 * size * Double.BYTES);
+            this.names = new String[count];
+            this.speeds = new double[count];
+            this.distances = new double[count];
+            byte[] bytes = new byte[64];
+            for (int i = 0; i < end; i++) {
+                int length = data.getInt();
+                if (length < 0 || length > data.remaining()) {
+                    throw new IOException("Truncated field file: " + file);
+                }
+                if (i < from) {
+                    data.position(data.position() + length);
+                    continue;
+                }
+                if (length > bytes.length) {
+                    bytes = new byte[Math.max(length, bytes.length * 2)];
+                }
+                data.get(bytes, 0, length);
+                add(decode(bytes, 0, length), speeds[i - from], distances[i - from], "Entry ", i + 1);
+            }
+            return finish(file, count);
+        } catch (BufferUnderflowException e) {
+            throw new IOException("Truncated field file: " + file, e);
+        }
+    }
+
+    private static int header(ByteBuffer data, Path file) throws IOException {
+        if (data.remaining() < 3 * Integer.BYTES || data.getInt() != MAGIC) {
+            logger.error("FieldLoader: {} is not a field file", file);
+            throw new IOException("Not a field file: " + file);
+        }
+        int version = data.getInt();
+        if (version != VERSION) {
+            logger.error("FieldLoader: unsupported version {}", version);
+            throw new IOException("Unsupported field file version: " + version);
+        }
+        int size = data.getInt();
+        if (size < 0) {
+            throw new IOException("Truncated field file: " + file);
+        }
+        return size;
+    }
+
+    private void add(String name, double speed, double distance, String location, long number) {
+        String error = RaceField.validate(name, speed, distance);
+        if (error != null) {
+            error(location + number + ": " + error);
+            return;
+        }
+        if (errorCount > 0) {
+            return;
+        }
+        if (size == names.length) {
+            int capacity = size * 2;
+            names = Arrays.copyOf(names, capacity);
+            speeds = Arrays.copyOf(speeds, capacity);
+            distances = Arrays.copyOf(distances, capacity);
+        }
+        names[size] = name;
+        speeds[size] = speed;
+        distances[size] = distance;
+        size++;
+    }
+
+    private void error(String error) {
+        if (errors.size() < MAX_REPORTED_ERRORS) {
+            errors.add(error);
+        }
+        errorCount++;
+    }
+
+    private RaceField finish(Path file, long entries) throws IOException {
+        if (errorCount > 0) {
+            logger.error("FieldLoader: {} invalid entries in {}, first: {}", errorCount, file, errors.get(0));
+            throw new FieldLoadException(errors, errorCount);
+        }
+        if (size == 0) {
+            logger.error("FieldLoader: {} has no horses", file);
+            throw new IllegalArgumentException("Horses cannot be empty.");
+        }
+        logger.debug("Загрузка поля из {}, записей {}, лошадей {}", file, entries, size);
+        return RaceField.wrap(names, speeds, distances, size);
+    }
+
+    private boolean parseDouble(byte[] bytes, int from, int to) {
+        while (from < to && bytes[from] == ' ') {
+            from++;
+        }
+        while (to > from && bytes[to - 1] == ' ') {
+            to--;
+        }
+        if (from == to) {
+            return false;
+        }
+
+        int p = from;
+        boolean negative = bytes[p] == '-';
+        if (negative || bytes[p] == '+') {
+            p++;
+        }
+        long mantissa = 0;
+        int digits = 0;
+        int scale = 0;
+        boolean dot = false;
+        boolean any = false;
+        for (; p < to; p++) {
+            byte b = bytes[p];
+            if (b >= '0' && b <= '9') {
+                any = true;
+                if (digits < 18) {
+                    mantissa = mantissa * 10 + (b - '0');
+                    if (mantissa != 0) {
+                        digits++;
+                    }
+                    if (dot) {
+                        scale--;
+                    }
+                } else if (!dot) {
+                    scale++;
+                }
+            } else if (b == '.' && !dot) {
+                dot = true;
+            } else {
+                break;
+            }
+        }
+        if (p < to && any && (bytes[p] == 'e' || bytes[p] == 'E')) {
+            int q = p + 1;
+            boolean negativeExponent = q < to && bytes[q] == '-';
+            if (q < to && (bytes[q] == '-' || bytes[q] == '+')) {
+                q++;
+            }
+            int exponent = 0;
+            int start = q;
+            for (; q < to && bytes[q] >= '0' && bytes[q] <= '9' && exponent < 10_000; q++) {
+                exponent = exponent * 10 + (bytes[q] - '0');
+            }
+            if (q > start) {
+                scale += negativeExponent ? -exponent : exponent;
+                p = q;
+            }
+        }
+        if (any && p == to && digits <= 15 && mantissa < 1L << 53 && Math.abs(scale) < POWERS_OF_TEN.length) {
+            double value = scale < 0 ? mantissa / POWERS_OF_TEN[-scale] : mantissa * POWERS_OF_TEN[scale];
+            parsed = negative ? -value : value;
+            return true;
+        }
+        try {
+            parsed = Double.parseDouble(new String(bytes, from, to - from, StandardCharsets.ISO_8859_1));
+            return true;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    private static String decode(byte[] bytes, int offset, int length) {
+        for (int i = offset, end = offset + length; i < end; i++) {
+            if (bytes[i] < 0) {
+                return new String(bytes, offset, length, StandardCharsets.UTF_8);
+            }
+        }
+        return new String(bytes, offset, length, StandardCharsets.ISO_8859_1);
+    }
+
+    private static ByteBuffer flushIfFull(FileChannel channel, ByteBuffer buffer, int bytes) throws IOException {
+        if (buffer.remaining() >= bytes) {
+            return buffer;
+        }
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+        return buffer.capacity() >= bytes ? buffer : ByteBuffer.allocate(bytes);
+    }
+
+    private static void checkFile(Path file) {
+        if (isNull(file)) {
+            logger.error("FieldLoader: file is null");
+            throw new IllegalArgumentException("File cannot be null.");
+        }
+    }
+}
@@ -1,15 +1,31 @@
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import java.util.AbstractList;
 import java.util.Collections;
-import java.util.Comparator;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
 
 import static java.util.Objects.isNull;
 
 public class Hippodrome {
 
     private final List<Horse> horses;
+    private final RaceField field;
+    private double[] distances;
+    private volatile Leaderboard leaderboard;
+    private Leaderboard spare;
+    private volatile Map<Horse, Integer> indexes;
+    private RaceEventBus events;
+    private RaceMetrics metrics;
+    private SnapshotBuffer snapshots;
+    private String[] snapshotNames;
+    private double[] snapshotSpeeds;
+    private long tick;
+    private int leader = -1;
+    private volatile boolean finished;
     private static final Logger logger = LogManager.getLogger(Hippodrome.class);
     public Hippodrome(List<Horse> horses) {
         if (isNull(horses)) {
@@ -21,20 +37,294 @@ public class Hippodrome {
         }
 
         this.horses = horses;
+        this.field = null;
+        this.distances = new double[horses.size()];
+        refreshDistances();
+        this.leaderboard = new Leaderboard(distances, distances.length);
+        this.spare = new Leaderboard(leaderboard);
         logger.debug("Создание Hippodrome, лошадей {}", horses.size());
     }
 
+    private Hippodrome(RaceField field) {
+        this.horses = field.asHorses();
+        this.field = field;
+        this.leaderboard = new Leaderboard(field.distances(), field.size());
+        this.spare = new Leaderboard(leaderboard);
+        logger.debug("Создание Hippodrome на RaceField, лошадей {}", field.size());
+    }
+
+    public static Hippodrome of(RaceField field) {
+        if (isNull(field)) {
+            logger.error("Race field is null");
+            throw new IllegalArgumentException("Field cannot be null.");
+        } else if (field.size() == 0) {
+            logger.error("Race field is empty");
+            throw new IllegalArgumentException("Horses cannot be empty.");
+        }
+        return new Hippodrome(field);
+    }
+
+    public static Hippodrome packed(List<Horse> horses) {
+        return new Hippodrome(RaceField.of(horses));
+    }
+
     public List<Horse> getHorses() {
         return Collections.unmodifiableList(horses);
     }
 
+    public RaceField getField() {
+        return field;
+    }
+
     public void move() {
-        horses.forEach(Horse::move);
+        RaceMetrics metrics = this.metrics;
+        long start = metrics != null ? System.nanoTime() : 0;
+        if (field != null) {
+            field.move();
+        } else {
+            horses.forEach(Horse::move);
+        }
+        completeTick(metrics, start);
+    }
+
+    public void move(ParallelMover mover) {
+        if (field != null) {
+            RaceMetrics metrics = this.metrics;
+            long start = metrics != null ? System.nanoTime() : 0;
+            mover.move(field);
+            completeTick(metrics, start);
+        } else {
+            move();
+        }
+    }
+
+    public void move(BulkMover mover) {
+        if (field != null) {
+            RaceMetrics metrics = this.metrics;
+            long start = metrics != null ? System.nanoTime() : 0;
+            mover.move(field);
+            completeTick(metrics, start);
+        } else {
+            move();
+        }
+    }
+
+    public void move(ModelMover mover) {
+        if (field != null) {
+            RaceMetrics metrics = this.metrics;
+            long start = metrics != null ? System.nanoTime() : 0;
+            mover.move(field, tick);
+            completeTick(metrics, start);
+        } else if (mover.isDefault()) {
+            move();
+        } else {
+            logger.error("Movement models on a Horse list");
+            throw new IllegalStateException("Movement models require a packed field.");
+        }
+    }
+
+    public long getTick() {
+        return tick;
+    }
+
+    public void setEventBus(RaceEventBus events) {
+        this.events = events;
+        this.leader = leaderboard.getLeader();
+    }
+
+    public RaceMetrics getMetrics() {
+        return metrics;
+    }
+
+    public void setMetrics(RaceMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    public SnapshotBuffer enableSnapshots() {
+        if (snapshots == null) {
+            snapshots = new SnapshotBuffer();
+            publishSnapshot();
+        }
+        return snapshots;
+    }
+
+    public SnapshotBuffer getSnapshots() {
+        return snapshots;
+    }
+
+    public boolean isFinished() {
+        return finished;
+    }
+
+    public void finish() {
+        finished = true;
+        if (events != null) {
+            int current = leaderboard.getLeader();
+            events.publish(RaceEvent.Type.RACE_FINISHED, tick, current, current);
+        }
+    }
+
+    private void completeTick(RaceMetrics metrics, long start) {
+        long moved = 0;
+        if (metrics != null) {
+            moved = System.nanoTime();
+            metrics.record(RaceMetrics.Phase.MOVE, moved - start);
+        }
+        updateLeaderboard();
+        tick++;
+        if (metrics != null) {
+            metrics.record(RaceMetrics.Phase.RANK, System.nanoTime() - moved);
+            metrics.tick();
+        }
+        if (snapshots != null) {
+            publishSnapshot();
+        }
+        if (events != null) {
+            int previous = leader;
+            leader = leaderboard.getLeader();
+            events.publish(RaceEvent.Type.TICK_COMPLETED, tick, leader, previous);
+            if (leader != previous) {
+                events.publish(RaceEvent.Type.LEAD_CHANGE, tick, leader, previous);
+            }
+        }
     }
 
     public Horse getWinner() {
-        return horses.stream()
-                .max(Comparator.comparing(Horse::getDistance))
-                .get();
+        return horses.get(leaderboard.getLeader());
+    }
+
+    public List<Horse> getTopK(int k) {
+        if (k < 0) {
+            throw new IllegalArgumentException("K cannot be negative.");
+        }
+        Leaderboard leaderboard = this.leaderboard;
+        return new TopK(leaderboard, Math.min(k, leaderboard.size()));
+    }
+
+    public int getRank(Horse horse) {
+        int index = indexOf(horse);
+        Leaderboard leaderboard = this.leaderboard;
+        if (index < 0 || index >= leaderboard.size()) {
+            throw new IllegalArgumentException("Horse is not in this race.");
+        }
+        return leaderboard.getRank(index);
+    }
+
+    public Leaderboard getLeaderboard() {
+        return leaderboard;
+    }
+
+    String getName(int index) {
+        return field != null ? field.getName(index) : horses.get(index).getName();
+    }
+
+    double getSpeed(int index) {
+        return field != null ? field.getSpeed(index) : horses.get(index).getSpeed();
+    }
+
+    double getDistance(int index) {
+        return field != null ? field.getDistance(index) : horses.get(index).getDistance();
+    }
+
+    void sync() {
+        updateLeaderboard();
+        if (snapshots != null) {
+            publishSnapshot();
+        }
+    }
+
+    private void updateLeaderboard() {
+        Leaderboard next;
+        if (field != null) {
+            if (leaderboard.size() != field.size()) {
+                next = new Leaderboard(field.distances(), field.size());
+                spare = new Leaderboard(next);
+                leaderboard = next;
+                return;
+            }
+        } else {
+            if (distances.length != horses.size()) {
+                distances = new double[horses.size()];
+                refreshDistances();
+                indexes = null;
+                next = new Leaderboard(distances, distances.length);
+                spare = new Leaderboard(next);
+                leaderboard = next;
+                return;
+            }
+            refreshDistances();
+        }
+        Leaderboard current = leaderboard;
+        next = spare;
+        next.update(current);
+        spare = current;
+        leaderboard = next;
+    }
+
+    private void publishSnapshot() {
+        Leaderboard leaderboard = this.leaderboard;
+        if (field != null) {
+            snapshots.publish(tick, leaderboard.getLeader(), field.size(), field.names(), field.speeds(),
+                    field.distances());
+            return;
+        }
+        int size = horses.size();
+        if (snapshotNames == null || snapshotNames.length != size) {
+            snapshotNames = new String[size];
+            snapshotSpeeds = new double[size];
+            for (int i = 0; i < size; i++) {
+                snapshotNames[i] = horses.get(i).getName();
+                snapshotSpeeds[i] = horses.get(i).getSpeed();
+            }
+        }
+        snapshots.publish(tick, leaderboard.getLeader(), size, snapshotNames, snapshotSpeeds, distances);
+    }
+
+    private void refreshDistances() {
+        double[] distances = this.distances;
+        int i = 0;
+        for (Horse horse : horses) {
+            distances[i++] = horse.getDistance();
+        }
+    }
+
+    int indexOf(Horse horse) {
+        if (field != null) {
+            return field.indexOf(horse);
+        }
+        Map<Horse, Integer> indexes = this.indexes;
+        if (indexes == null) {
+            indexes = new IdentityHashMap<>(horses.size());
+            for (int i = 0; i < horses.size(); i++) {
+                indexes.put(horses.get(i), i);
+            }
+            this.indexes = indexes;
+        }
+        Integer index = indexes.get(horse);
+        return isNull(index) ? -1 : index;
+    }
+
+    private class TopK extends AbstractList<Horse> implements RandomAccess {
+
+        private final Leaderboard leaderboard;
+        private final int k;
+
+        TopK(Leaderboard leaderboard, int k) {
+            this.leaderboard = leaderboard;
+            this.k = k;
+        }
+
+        @Override
+        public Horse get(int rank) {
+            if (rank < 0 || rank >= k) {
+                throw new IndexOutOfBoundsException("Index " + rank + " out of bounds for size " + k);
+            }
+            return horses.get(leaderboard.getIndex(rank + 1));
+        }
+
+        @Override
+        public int size() {
+            return k;
+        }
     }
 }
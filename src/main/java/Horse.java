@@ -37,6 +37,11 @@ public class Horse {
         this(name, speed, 0);
     }
 
+    Horse(RaceField field, int index) {
+        this.name = field.getName(index);
+        this.speed = field.getSpeed(index);
+    }
+
     public String getName() {
         return name;
     }
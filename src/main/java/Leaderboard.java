@@ -0,0 +1,218 @@
+import java.util.Arrays;
+
+public class Leaderboard {
+
+    static final int RADIX_THRESHOLD = 4096;
+    private static final int RADIX_BITS = 11;
+    private static final int RADIX_MASK = (1 << RADIX_BITS) - 1;
+
+    private final double[] distances;
+    private final int[] order;
+    private final int[] ranks;
+    private final long shiftBudget;
+    private long[] keys;
+    private long[] keyBuffer;
+    private int[] orderBuffer;
+    private int[] counts;
+    private int dirtyLow;
+    private int dirtyHigh;
+
+    Leaderboard(double[] distances, int size) {
+        this.distances = distances;
+        this.order = new int[size];
+        this.ranks = new int[size];
+        this.shiftBudget = 2L * size + 64;
+        for (int i = 0; i < size; i++) {
+            order[i] = i;
+        }
+        sort(distances, order, 0, size - 1);
+        fillRanks(0, size - 1);
+        this.dirtyLow = 0;
+        this.dirtyHigh = size - 1;
+    }
+
+    Leaderboard(Leaderboard source) {
+        this.distances = source.distances;
+        this.order = source.order.clone();
+        this.ranks = source.ranks.clone();
+        this.shiftBudget = source.shiftBudget;
+        this.dirtyLow = order.length;
+        this.dirtyHigh = -1;
+    }
+
+    public int size() {
+        return order.length;
+    }
+
+    public int getLeader() {
+        return order[0];
+    }
+
+    public int getIndex(int rank) {
+        return order[rank - 1];
+    }
+
+    public int getRank(int index) {
+        return ranks[index] + 1;
+    }
+
+    public int getTopK(int k, int[] out) {
+        int count = Math.min(Math.min(k, order.length), out.length);
+        System.arraycopy(order, 0, out, 0, count);
+        return count;
+    }
+
+    public void update() {
+        double[] distances = this.distances;
+        int[] order = this.order;
+        int size = order.length;
+        long shifts = 0;
+        int low = size;
+        int high = -1;
+        for (int i = 1; i < size; i++) {
+            int current = order[i];
+            int j = i - 1;
+            if (!ahead(distances, current, order[j])) {
+                continue;
+            }
+            do {
+                order[j + 1] = order[j];
+                j--;
+            } while (j >= 0 && ahead(distances, current, order[j]));
+            order[j + 1] = current;
+            shifts += i - j - 1;
+            low = Math.min(low, j + 1);
+            high = i;
+            if (shifts > shiftBudget) {
+                if (size < RADIX_THRESHOLD) {
+                    sort(distances, order, 0, size - 1);
+                } else {
+                    radixSort();
+                }
+                fillRanks(0, size - 1);
+                dirtyLow = 0;
+                dirtyHigh = size - 1;
+                return;
+            }
+        }
+        fillRanks(low, high);
+        dirtyLow = low;
+        dirtyHigh = high;
+    }
+
+    void update(Leaderboard previous) {
+        int from = previous.dirtyLow;
+        int to = previous.dirtyHigh;
+        if (from <= to) {
+            System.arraycopy(previous.order, from, order, from, to - from + 1);
+            fillRanks(from, to);
+        }
+        update();
+    }
+
+    private void radixSort() {
+        int size = order.length;
+        if (keys == null) {
+            keys = new long[size];
+            keyBuffer = new long[size];
+            orderBuffer = new int[size];
+            counts = new int[1 << RADIX_BITS];
+        }
+        long[] source = keys;
+        long[] target = keyBuffer;
+        int[] sourceOrder = order;
+        int[] targetOrder = orderBuffer;
+        for (int i = 0; i < size; i++) {
+            sourceOrder[i] = i;
+            source[i] = Long.MAX_VALUE - Double.doubleToRawLongBits(distances[i] + 0.0);
+        }
+        int[] counts = this.counts;
+        for (int shift = 0; shift < 64; shift += RADIX_BITS) {
+            Arrays.fill(counts, 0);
+            for (int i = 0; i < size; i++) {
+                counts[(int) (source[i] >>> shift) & RADIX_MASK]++;
+            }
+            if (counts[(int) (source[0] >>> shift) & RADIX_MASK] == size) {
+                continue;
+            }
+            int total = 0;
+            for (int digit = 0; digit <= RADIX_MASK; digit++) {
+                int count = counts[digit];
+                counts[digit] = total;
+                total += count;
+            }
+            for (int i = 0; i < size; i++) {
+                long key = source[i];
+                int position = counts[(int) (key >>> shift) & RADIX_MASK]++;
+                target[position] = key;
+                targetOrder[position] = sourceOrder[i];
+            }
+            long[] keySwap = source;
+            source = target;
+            target = keySwap;
+            int[] orderSwap = sourceOrder;
+            sourceOrder = targetOrder;
+            targetOrder = orderSwap;
+        }
+        if (sourceOrder != order) {
+            System.arraycopy(sourceOrder, 0, order, 0, size);
+        }
+    }
+
+    int[] order() {
+        return order;
+    }
+
+    private void fillRanks(int from, int to) {
+        for (int rank = from; rank <= to; rank++) {
+            ranks[order[rank]] = rank;
+        }
+    }
+
+    static boolean ahead(double[] distances, int a, int b) {
+        double da = distances[a];
+        double db = distances[b];
+        return da > db || (da == db && a < b);
+    }
+
+    static void sort(double[] distances, int[] order, int low, int high) {
+        while (high - low > 16) {
+            int mid = (low + high) >>> 1;
+            if (ahead(distances, order[mid], order[low])) swap(order, mid, low);
+            if (ahead(distances, order[high], order[low])) swap(order, high, low);
+            if (ahead(distances, order[high], order[mid])) swap(order, high, mid);
+            int pivot = order[mid];
+            int i = low;
+            int j = high;
+            while (i <= j) {
+                while (ahead(distances, order[i], pivot)) i++;
+                while (ahead(distances, pivot, order[j])) j--;
+                if (i <= j) {
+                    swap(order, i++, j--);
+                }
+            }
+            if (j - low < high - i) {
+                sort(distances, order, low, j);
+                low = i;
+            } else {
+                sort(distances, order, i, high);
+                high = j;
+            }
+        }
+        for (int i = low + 1; i <= high; i++) {
+            int current = order[i];
+            int j = i - 1;
+            while (j >= low && ahead(distances, current, order[j])) {
+                order[j + 1] = order[j];
+                j--;
+            }
+            order[j + 1] = current;
+        }
+    }
+
+    private static void swap(int[] order, int a, int b) {
+        int tmp = order[a];
+        order[a] = order[b];
+        order[b] = tmp;
+    }
+}
@@ -2,11 +2,19 @@ import org.apache.logging.log4j.Level;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import java.io.FileDescriptor;
+import java.io.FileOutputStream;
+import java.nio.channels.Channels;
+import java.nio.file.Path;
+import java.time.Duration;
 import java.util.List;
-import java.util.concurrent.TimeUnit;
+
+import static java.util.Objects.isNull;
 
 public class Main {
     static final Logger logger = LogManager.getLogger(Main.class);
+    private static final int WIDTH = 120;
+    private static final int MAX_ROWS = 20;
     public static void main(String[] args) throws Exception {
 
         List<Horse> horses = List.of(
@@ -18,23 +26,38 @@ public class Main {
                 new Horse("Pegasus", 2.9),
                 new Horse("Cherry", 3)
         );
-        Hippodrome hippodrome = new Hippodrome(horses);
-        logger.info("Начало скачек. Количество участников: {}", horses.size());
-        for (int i = 0; i < 100; i++) {
-            hippodrome.move();
-            watch(hippodrome);
-            TimeUnit.MILLISECONDS.sleep(200);
+        String fieldFile = System.getProperty("hippodrome.field");
+        Hippodrome hippodrome = isNull(fieldFile) ? new Hippodrome(horses) : FieldLoader.load(Path.of(fieldFile));
+        int size = hippodrome.getHorses().size();
+        logger.info("Начало скачек. Количество участников: {}", size);
+        int ticks = Integer.getInteger("hippodrome.ticks", 100);
+        long tickMillis = Long.getLong("hippodrome.tickMillis", 200);
+        long displayMillis = Long.getLong("hippodrome.displayMillis", tickMillis);
+        RaceScheduler.Mode mode = RaceScheduler.Mode.valueOf(
+                System.getProperty("hippodrome.mode", RaceScheduler.Mode.REALTIME.name()).toUpperCase());
+        RaceMetrics metrics = null;
+        if (Boolean.getBoolean("hippodrome.metrics")) {
+            metrics = new RaceMetrics();
+            metrics.register("main");
+            hippodrome.setMetrics(metrics);
+        }
+        RaceScheduler scheduler = new RaceScheduler(hippodrome, ticks,
+                Duration.ofMillis(tickMillis), Duration.ofMillis(displayMillis), mode);
+        if (mode == RaceScheduler.Mode.HEADLESS) {
+            scheduler.run(null);
+        } else {
+            TerminalRenderer renderer = new TerminalRenderer(
+                    Channels.newChannel(new FileOutputStream(FileDescriptor.out)), Math.min(size, MAX_ROWS), WIDTH, 0);
+            scheduler.run(renderer::render);
+            renderer.finish();
         }
 
         String winnerName = hippodrome.getWinner().getName();
         System.out.println(winnerName + " wins!");
         logger.info("Окончание скачек. Победитель: {}", winnerName);
-    }
-
-    private static void watch(Hippodrome hippodrome) throws Exception {
-        hippodrome.getHorses().stream()
-                .map(horse -> ".".repeat((int) horse.getDistance()) + horse.getName())
-                .forEach(System.out::println);
-        System.out.println("\n".repeat(10));
+        if (metrics != null) {
+            logger.info("Метрики скачек:{}{}", System.lineSeparator(), metrics.snapshot());
+            metrics.unregister();
+        }
     }
 }
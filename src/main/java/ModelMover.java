@@ -0,0 +1,166 @@
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import static java.util.Objects.isNull;
+
+public class ModelMover {
+
+    private final MovementModel[] assignments;
+    private final SplittableRandom random;
+    private MovementModel.TrackCondition track = MovementModel.TrackCondition.GOOD;
+    private MovementModel[] models;
+    private int[][] groups;
+    private double[][][] parameters;
+    private int[] counts;
+    private boolean dirty = true;
+    private long tick;
+    private static final Logger logger = LogManager.getLogger(ModelMover.class);
+
+    public ModelMover(int size, long seed) {
+        if (size <= 0) {
+            logger.error("ModelMover: size is not positive");
+            throw new IllegalArgumentException("Size must be positive.");
+        }
+
+        this.assignments = new MovementModel[size];
+        this.random = new SplittableRandom(seed);
+        Arrays.fill(assignments, MovementModel.uniform());
+        logger.debug("Создание ModelMover, лошадей {}", size);
+    }
+
+    public int size() {
+        return assignments.length;
+    }
+
+    public MovementModel getModel(int horse) {
+        return assignments[checkIndex(horse)];
+    }
+
+    public void assign(int horse, MovementModel model) {
+        assign(horse, horse + 1, model);
+    }
+
+    public void assign(int from, int to, MovementModel model) {
+        if (isNull(model)) {
+            logger.error("ModelMover: model is null");
+            throw new IllegalArgumentException("Model cannot be null.");
+        }
+        if (from < 0 || to > assignments.length || from >= to) {
+            throw new IndexOutOfBoundsException("Range [" + from + ", " + to + ") out of bounds for size "
+                    + assignments.length);
+        }
+        Arrays.fill(assignments, from, to, model);
+        dirty = true;
+    }
+
+    public MovementModel.TrackCondition getTrackCondition() {
+        return track;
+    }
+
+    public void setTrackCondition(MovementModel.TrackCondition track) {
+        if (isNull(track)) {
+            logger.error("ModelMover: track condition is null");
+            throw new IllegalArgumentException("Track condition cannot be null.");
+        }
+        this.track = track;
+    }
+
+    public long getTick() {
+        return tick;
+    }
+
+    public void reset() {
+        tick = 0;
+    }
+
+    public int getGroupCount() {
+        regroup();
+        return models.length;
+    }
+
+    boolean isDefault() {
+        regroup();
+        return models.length == 1 && models[0] == MovementModel.uniform()
+                && track == MovementModel.TrackCondition.GOOD;
+    }
+
+    public void move(RaceField field) {
+        move(field, tick);
+    }
+
+    void move(RaceField field, long tick) {
+        if (isNull(field)) {
+            logger.error("ModelMover: field is null");
+            throw new IllegalArgumentException("Field cannot be null.");
+        }
+        if (field.size() != assignments.length) {
+            logger.error("ModelMover: field size does not match mover size");
+            throw new IllegalArgumentException("Field size must be equal to mover size.");
+        }
+        regroup();
+        double[] speeds = field.speeds();
+        double[] distances = field.distances();
+        double factor = track.getFactor();
+        MovementModel[] models = this.models;
+        for (int g = 0; g < models.length; g++) {
+            models[g].move(speeds, distances, groups[g], parameters[g], counts[g], tick, factor, random);
+        }
+        this.tick = tick + 1;
+        field.touch();
+    }
+
+    private void regroup() {
+        if (!dirty) {
+            return;
+        }
+        Map<Class<?>, Integer> ids = new IdentityHashMap<>();
+        List<MovementModel> distinct = new ArrayList<>();
+        int[] owners = new int[assignments.length];
+        int[] counts = new int[assignments.length];
+        for (int i = 0; i < assignments.length; i++) {
+            Integer id = ids.get(assignments[i].getClass());
+            if (isNull(id)) {
+                id = distinct.size();
+                ids.put(assignments[i].getClass(), id);
+                distinct.add(assignments[i]);
+            }
+            owners[i] = id;
+            counts[id]++;
+        }
+        int[][] groups = new int[distinct.size()][];
+        double[][][] parameters = new double[groups.length][][];
+        for (int g = 0; g < groups.length; g++) {
+            groups[g] = new int[counts[g]];
+            parameters[g] = new double[distinct.get(g).parameters()][counts[g]];
+        }
+        int[] filled = new int[groups.length];
+        for (int i = 0; i < owners.length; i++) {
+            int g = owners[i];
+            int j = filled[g]++;
+            groups[g][j] = i;
+            for (int p = 0; p < parameters[g].length; p++) {
+                parameters[g][p][j] = assignments[i].parameter(p);
+            }
+        }
+        this.models = distinct.toArray(new MovementModel[0]);
+        this.groups = groups;
+        this.parameters = parameters;
+        this.counts = Arrays.copyOf(counts, groups.length);
+        dirty = false;
+        logger.debug("Перегруппировка ModelMover, моделей {}", groups.length);
+    }
+
+    private int checkIndex(int index) {
+        if (index < 0 || index >= assignments.length) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for size " + assignments.length);
+        }
+        return index;
+    }
+}
@@ -0,0 +1,50 @@
+import java.util.SplittableRandom;
+
+abstract class MoveKernel {
+
+    static final int LANES = 8;
+    static final double MIN_FACTOR = 0.2;
+    static final double MAX_FACTOR = 0.9;
+    static final long ONE_BITS = 0x3FF0000000000000L;
+    static final double SCALE = MAX_FACTOR - MIN_FACTOR;
+    static final double OFFSET = MIN_FACTOR - SCALE;
+
+    final long[] state0 = new long[LANES];
+    final long[] state1 = new long[LANES];
+
+    MoveKernel(long seed) {
+        reseed(seed);
+    }
+
+    final void reseed(long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        for (int lane = 0; lane < LANES; lane++) {
+            do {
+                state0[lane] = random.nextLong();
+                state1[lane] = random.nextLong();
+            } while ((state0[lane] | state1[lane]) == 0);
+        }
+    }
+
+    abstract void move(double[] speeds, double[] distances, int from, int to);
+
+    abstract boolean isVectorized();
+
+    final void moveBlock(double[] speeds, double[] distances, int from, int count) {
+        long[] state0 = this.state0;
+        long[] state1 = this.state1;
+        for (int lane = 0; lane < LANES; lane++) {
+            long x = state0[lane];
+            long y = state1[lane];
+            state0[lane] = y;
+            x ^= x << 23;
+            long next = x ^ y ^ (x >>> 17) ^ (y >>> 26);
+            state1[lane] = next;
+            if (lane < count) {
+                double unit = Double.longBitsToDouble(((next + y) >>> 12) | ONE_BITS);
+                int i = from + lane;
+                distances[i] = distances[i] + speeds[i] * (unit * SCALE + OFFSET);
+            }
+        }
+    }
+}
@@ -0,0 +1,170 @@
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.SplittableRandom;
+
+public abstract class MovementModel {
+
+    public enum TrackCondition {
+        FIRM(1.05), GOOD(1.0), SOFT(0.9), HEAVY(0.8);
+
+        private final double factor;
+
+        TrackCondition(double factor) {
+            this.factor = factor;
+        }
+
+        public double getFactor() {
+            return factor;
+        }
+    }
+
+    static final double MIN_FACTOR = 0.2;
+    static final double MAX_FACTOR = 0.9;
+
+    private static final MovementModel UNIFORM = new Uniform();
+    private static final Logger logger = LogManager.getLogger(MovementModel.class);
+
+    MovementModel() {
+    }
+
+    public static MovementModel uniform() {
+        return UNIFORM;
+    }
+
+    public static MovementModel fatigue(double rate) {
+        if (!(rate >= 0) || Double.isInfinite(rate)) {
+            logger.error("MovementModel: fatigue rate is invalid");
+            throw new IllegalArgumentException("Fatigue rate must be a finite non-negative number.");
+        }
+        return new Fatigue(rate);
+    }
+
+    public static MovementModel acceleration(double start, int rampTicks) {
+        if (!(start >= 0 && start <= 1)) {
+            logger.error("MovementModel: acceleration start is out of range");
+            throw new IllegalArgumentException("Start must be between 0 and 1.");
+        }
+        if (rampTicks <= 0) {
+            logger.error("MovementModel: ramp ticks is not positive");
+            throw new IllegalArgumentException("Ramp ticks must be positive.");
+        }
+        return new Acceleration(start, rampTicks);
+    }
+
+    abstract int parameters();
+
+    abstract double parameter(int index);
+
+    abstract void move(double[] speeds, double[] distances, int[] horses, double[][] parameters, int count,
+                       long tick, double track, SplittableRandom random);
+
+    private static final class Uniform extends MovementModel {
+
+        @Override
+        int parameters() {
+            return 0;
+        }
+
+        @Override
+        double parameter(int index) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for 0 parameters");
+        }
+
+        @Override
+        void move(double[] speeds, double[] distances, int[] horses, double[][] parameters, int count,
+                  long tick, double track, SplittableRandom random) {
+            for (int j = 0; j < count; j++) {
+                int i = horses[j];
+                distances[i] += speeds[i] * random.nextDouble(MIN_FACTOR, MAX_FACTOR) * track;
+            }
+        }
+
+        @Override
+        public String toString() {
+            return "uniform";
+        }
+    }
+
+    private static final class Fatigue extends MovementModel {
+
+        private final double rate;
+
+        Fatigue(double rate) {
+            this.rate = rate;
+        }
+
+        @Override
+        int parameters() {
+            return 1;
+        }
+
+        @Override
+        double parameter(int index) {
+            if (index != 0) {
+                throw new IndexOutOfBoundsException("Index " + index + " out of bounds for 1 parameter");
+            }
+            return rate;
+        }
+
+        @Override
+        void move(double[] speeds, double[] distances, int[] horses, double[][] parameters, int count,
+                  long tick, double track, SplittableRandom random) {
+            double[] rates = parameters[0];
+            for (int j = 0; j < count; j++) {
+                int i = horses[j];
+                double distance = distances[i];
+                distances[i] = distance
+                        + speeds[i] * random.nextDouble(MIN_FACTOR, MAX_FACTOR) * track / (1 + rates[j] * distance);
+            }
+        }
+
+        @Override
+        public String toString() {
+            return "fatigue(" + rate + ")";
+        }
+    }
+
+    private static final class Acceleration extends MovementModel {
+
+        private final double start;
+        private final int rampTicks;
+
+        Acceleration(double start, int rampTicks) {
+            this.start = start;
+            this.rampTicks = rampTicks;
+        }
+
+        @Override
+        int parameters() {
+            return 2;
+        }
+
+        @Override
+        double parameter(int index) {
+            if (index == 0) {
+                return start;
+            } else if (index == 1) {
+                return rampTicks;
+            }
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for 2 parameters");
+        }
+
+        @Override
+        void move(double[] speeds, double[] distances, int[] horses, double[][] parameters, int count,
+                  long tick, double track, SplittableRandom random) {
+            double[] starts = parameters[0];
+            double[] ramps = parameters[1];
+            for (int j = 0; j < count; j++) {
+                int i = horses[j];
+                double scale = tick >= ramps[j] ? track : track * (starts[j] + (1 - starts[j]) * tick / ramps[j]);
+                distances[i] += speeds[i] * random.nextDouble(MIN_FACTOR, MAX_FACTOR) * scale;
+            }
+        }
+
+        @Override
+        public String toString() {
+            return "acceleration(" + start + ", " + rampTicks + ")";
+        }
+    }
+}
@@ -0,0 +1,78 @@
+public class Odds {
+
+    public enum Finish {
+        WIN, PLACE, SHOW
+    }
+
+    private static final double Z_95 = 1.959963984540054;
+
+    private final RaceField field;
+    private final long races;
+    private final long[] wins;
+    private final long[] places;
+    private final long[] shows;
+
+    Odds(RaceField field, long races, long[] wins, long[] places, long[] shows) {
+        this.field = field;
+        this.races = races;
+        this.wins = wins;
+        this.places = places;
+        this.shows = shows;
+    }
+
+    public long getRaces() {
+        return races;
+    }
+
+    public int size() {
+        return wins.length;
+    }
+
+    public String getName(int index) {
+        return field.getName(index);
+    }
+
+    public long getCount(Finish finish, int index) {
+        switch (finish) {
+            case WIN:
+                return wins[index];
+            case PLACE:
+                return places[index];
+            default:
+                return shows[index];
+        }
+    }
+
+    public double getFrequency(Finish finish, int index) {
+        return races == 0 ? 0 : (double) getCount(finish, index) / races;
+    }
+
+    public double getLowerBound(Finish finish, int index) {
+        return wilson(finish, index, -1);
+    }
+
+    public double getUpperBound(Finish finish, int index) {
+        return wilson(finish, index, 1);
+    }
+
+    public double getMaxHalfWidth(Finish finish) {
+        double max = 0;
+        for (int i = 0; i < wins.length; i++) {
+            max = Math.max(max, (getUpperBound(finish, i) - getLowerBound(finish, i)) / 2);
+        }
+        return max;
+    }
+
+    private double wilson(Finish finish, int index, int sign) {
+        if (races == 0) {
+            return sign < 0 ? 0 : 1;
+        }
+        double n = races;
+        double p = getFrequency(finish, index);
+        double z2 = Z_95 * Z_95;
+        double center = p + z2 / (2 * n);
+        double margin = Z_95 * Math.sqrt(p * (1 - p) / n + z2 / (4 * n * n));
+        double bound = (center + sign * margin) / (1 + z2 / n);
+        return Math.min(1, Math.max(0, bound));
+    }
+}
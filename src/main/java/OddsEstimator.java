@@ -0,0 +1,187 @@
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Predicate;
+
+import static java.util.Objects.isNull;
+
+public class OddsEstimator {
+
+    public static final int DEFAULT_TICKS = 100;
+    static final long REPORT_INTERVAL_MILLIS = 250;
+
+    private final RaceField template;
+    private final int ticks;
+    private final int workers;
+    private final long seed;
+    private static final Logger logger = LogManager.getLogger(OddsEstimator.class);
+
+    public OddsEstimator(RaceField template, long seed) {
+        this(template, DEFAULT_TICKS, Runtime.getRuntime().availableProcessors(), seed);
+    }
+
+    public OddsEstimator(RaceField template, int ticks, int workers, long seed) {
+        if (isNull(template)) {
+            logger.error("OddsEstimator: field is null");
+            throw new IllegalArgumentException("Field cannot be null.");
+        } else if (template.size() == 0) {
+            logger.error("OddsEstimator: field is empty");
+            throw new IllegalArgumentException("Horses cannot be empty.");
+        }
+        if (ticks <= 0) {
+            logger.error("OddsEstimator: ticks is not positive");
+            throw new IllegalArgumentException("Ticks must be positive.");
+        }
+        if (workers <= 0) {
+            logger.error("OddsEstimator: workers is not positive");
+            throw new IllegalArgumentException("Workers must be positive.");
+        }
+
+        this.template = template.copy();
+        this.ticks = ticks;
+        this.workers = workers;
+        this.seed = seed;
+    }
+
+    public Odds estimate(long races) throws InterruptedException {
+        return estimate(races, odds -> true);
+    }
+
+    public Odds estimate(long races, Predicate<Odds> progress) throws InterruptedException {
+        if (races <= 0) {
+            logger.error("OddsEstimator: races is not positive");
+            throw new IllegalArgumentException("Races must be positive.");
+        }
+        if (isNull(progress)) {
+            throw new IllegalArgumentException("Progress cannot be null.");
+        }
+
+        logger.info("Начало оценки шансов: лошадей {}, забегов {}, потоков {}", template.size(), races, workers);
+        SplittableRandom root = new SplittableRandom(seed);
+        Worker[] running = new Worker[workers];
+        CountDownLatch done = new CountDownLatch(workers);
+        AtomicReference<RuntimeException> failure = new AtomicReference<>();
+        ExecutorService executor = Executors.newFixedThreadPool(workers);
+        try {
+            for (int i = 0; i < workers; i++) {
+                long quota = races / workers + (i < races % workers ? 1 : 0);
+                running[i] = new Worker(root.split(), quota, done, failure);
+                executor.execute(running[i]);
+            }
+            while (!done.await(REPORT_INTERVAL_MILLIS, TimeUnit.MILLISECONDS)) {
+                if (!progress.test(snapshot(running))) {
+                    logger.info("Оценка шансов остановлена досрочно");
+                    break;
+                }
+            }
+        } finally {
+            for (Worker worker : running) {
+                if (worker != null) {
+                    worker.stopped = true;
+                }
+            }
+            executor.shutdown();
+            executor.awaitTermination(Long.MAX_VALUE, TimeUnit.DAYS);
+        }
+        if (failure.get() != null) {
+            logger.error("OddsEstimator: worker failed, estimation aborted");
+            throw failure.get();
+        }
+
+        Odds odds = snapshot(running);
+        logger.info("Окончание оценки шансов: забегов {}", odds.getRaces());
+        return odds;
+    }
+
+    private Odds snapshot(Worker[] running) {
+        int size = template.size();
+        long[] wins = new long[size];
+        long[] places = new long[size];
+        long[] shows = new long[size];
+        long races = 0;
+        for (Worker worker : running) {
+            AtomicLongArray counts = worker.counts;
+            for (int i = 0; i < size; i++) {
+                long win = counts.getAcquire(i);
+                wins[i] += win;
+                places[i] += counts.getAcquire(size + i);
+                shows[i] += counts.getAcquire(2 * size + i);
+                races += win;
+            }
+        }
+        return new Odds(template, races, wins, places, shows);
+    }
+
+    private class Worker implements Runnable {
+
+        private final SplittableRandom random;
+        private final long quota;
+        private final CountDownLatch done;
+        private final AtomicReference<RuntimeException> failure;
+        private final AtomicLongArray counts = new AtomicLongArray(3 * template.size());
+        private volatile boolean stopped;
+
+        Worker(SplittableRandom random, long quota, CountDownLatch done, AtomicReference<RuntimeException> failure) {
+            this.random = random;
+            this.quota = quota;
+            this.done = done;
+            this.failure = failure;
+        }
+
+        @Override
+        public void run() {
+            try {
+                RaceField field = template.copy();
+                double[] distances = field.distances();
+                int size = field.size();
+                for (long race = 0; race < quota && !stopped && failure.get() == null; race++) {
+                    field.reset(template);
+                    for (int tick = 0; tick < ticks; tick++) {
+                        field.move(0, size, random);
+                    }
+                    int first = -1;
+                    int second = -1;
+                    int third = -1;
+                    for (int i = 0; i < size; i++) {
+                        if (first < 0 || Leaderboard.ahead(distances, i, first)) {
+                            third = second;
+                            second = first;
+                            first = i;
+                        } else if (second < 0 || Leaderboard.ahead(distances, i, second)) {
+                            third = second;
+                            second = i;
+                        } else if (third < 0 || Leaderboard.ahead(distances, i, third)) {
+                            third = i;
+                        }
+                    }
+                    increment(first);
+                    increment(size + first);
+                    increment(2 * size + first);
+                    if (second >= 0) {
+                        increment(size + second);
+                        increment(2 * size + second);
+                    }
+                    if (third >= 0) {
+                        increment(2 * size + third);
+                    }
+                }
+            } catch (RuntimeException e) {
+                logger.error("Ошибка в потоке оценки шансов", e);
+                failure.compareAndSet(null, e);
+            } finally {
+                done.countDown();
+            }
+        }
+
+        private void increment(int slot) {
+            counts.setRelease(slot, counts.getPlain(slot) + 1);
+        }
+    }
+}
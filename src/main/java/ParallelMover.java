@@ -0,0 +1,104 @@
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+
+import static java.util.Objects.isNull;
+
+public class ParallelMover implements AutoCloseable {
+
+    static final int SEQUENTIAL_THRESHOLD = 8192;
+
+    private final ForkJoinPool pool;
+    private final Chunk[] chunks;
+    private final Tick tick = new Tick();
+    private static final Logger logger = LogManager.getLogger(ParallelMover.class);
+
+    public ParallelMover(long seed) {
+        this(Runtime.getRuntime().availableProcessors(), seed);
+    }
+
+    public ParallelMover(int workers, long seed) {
+        if (workers <= 0) {
+            logger.error("ParallelMover: workers is not positive");
+            throw new IllegalArgumentException("Workers must be positive.");
+        }
+
+        SplittableRandom root = new SplittableRandom(seed);
+        this.chunks = new Chunk[workers];
+        for (int i = 0; i < workers; i++) {
+            chunks[i] = new Chunk(root.split());
+        }
+        this.pool = new ForkJoinPool(workers);
+        logger.debug("Создание ParallelMover, потоков {}, seed {}", workers, seed);
+    }
+
+    public int getWorkers() {
+        return chunks.length;
+    }
+
+    public void move(RaceField field) {
+        if (isNull(field)) {
+            throw new IllegalArgumentException("Field cannot be null.");
+        }
+        int size = field.size();
+        int workers = chunks.length;
+        for (int i = 0; i < workers; i++) {
+            Chunk chunk = chunks[i];
+            chunk.field = field;
+            chunk.from = (int) ((long) size * i / workers);
+            chunk.to = (int) ((long) size * (i + 1) / workers);
+        }
+        if (size < SEQUENTIAL_THRESHOLD || workers == 1) {
+            for (Chunk chunk : chunks) {
+                chunk.compute();
+            }
+        } else {
+            tick.reinitialize();
+            pool.invoke(tick);
+        }
+        for (Chunk chunk : chunks) {
+            chunk.field = null;
+        }
+        field.touch();
+    }
+
+    @Override
+    public void close() {
+        pool.shutdown();
+    }
+
+    private class Tick extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected void compute() {
+            for (Chunk chunk : chunks) {
+                chunk.reinitialize();
+            }
+            ForkJoinTask.invokeAll(chunks);
+        }
+    }
+
+    private static class Chunk extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+        private final SplittableRandom random;
+        private RaceField field;
+        private int from;
+        private int to;
+
+        Chunk(SplittableRandom random) {
+            this.random = random;
+        }
+
+        @Override
+        protected void compute() {
+            field.move(from, to, random);
+        }
+    }
+}
@@ -0,0 +1,69 @@
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.time.Duration;
+import java.util.List;
+
+import static java.util.Objects.isNull;
+
+public class RaceDefinition {
+
+    private final String id;
+    private final List<Horse> horses;
+    private final int ticks;
+    private final Duration tickInterval;
+    private final Duration deadline;
+    private static final Logger logger = LogManager.getLogger(RaceDefinition.class);
+
+    public RaceDefinition(String id, List<Horse> horses, int ticks, Duration tickInterval, Duration deadline) {
+        if (isNull(id) || id.isBlank()) {
+            logger.error("RaceDefinition: id is blank");
+            throw new IllegalArgumentException("Id cannot be blank.");
+        }
+        if (isNull(horses)) {
+            logger.error("RaceDefinition: horses list is null");
+            throw new IllegalArgumentException("Horses cannot be null.");
+        } else if (horses.isEmpty()) {
+            logger.error("RaceDefinition: horses list is empty");
+            throw new IllegalArgumentException("Horses cannot be empty.");
+        }
+        if (ticks <= 0) {
+            logger.error("RaceDefinition: ticks is not positive");
+            throw new IllegalArgumentException("Ticks must be positive.");
+        }
+        if (isNull(tickInterval) || tickInterval.isNegative()) {
+            logger.error("RaceDefinition: tick interval is negative");
+            throw new IllegalArgumentException("Tick interval cannot be negative.");
+        }
+        if (isNull(deadline) || deadline.isNegative() || deadline.isZero()) {
+            logger.error("RaceDefinition: deadline is not positive");
+            throw new IllegalArgumentException("Deadline must be positive.");
+        }
+
+        this.id = id;
+        this.horses = List.copyOf(horses);
+        this.ticks = ticks;
+        this.tickInterval = tickInterval;
+        this.deadline = deadline;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public List<Horse> getHorses() {
+        return horses;
+    }
+
+    public int getTicks() {
+        return ticks;
+    }
+
+    public Duration getTickInterval() {
+        return tickInterval;
+    }
+
+    public Duration getDeadline() {
+        return deadline;
+    }
+}
@@ -0,0 +1,43 @@
+public class RaceEvent {
+
+    public enum Type {
+        TICK_COMPLETED, LEAD_CHANGE, RACE_FINISHED
+    }
+
+    long sequence;
+    Type type;
+    long tick;
+    int leader;
+    int previousLeader;
+    long nanoTime;
+
+    public long getSequence() {
+        return sequence;
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public long getTick() {
+        return tick;
+    }
+
+    public int getLeader() {
+        return leader;
+    }
+
+    public int getPreviousLeader() {
+        return previousLeader;
+    }
+
+    public long getNanoTime() {
+        return nanoTime;
+    }
+
+    @Override
+    public String toString() {
+        return "RaceEvent{sequence=" + sequence + ", type=" + type + ", tick=" + tick
+                + ", leader=" + leader + ", previousLeader=" + previousLeader + "}";
+    }
+}
@@ -0,0 +1,214 @@
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.lang.invoke.VarHandle;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+
+import static java.util.Objects.isNull;
+
+public class RaceEventBus {
+
+    public enum WaitStrategy {
+        BUSY_SPIN, YIELDING, SLEEPING, BLOCKING
+    }
+
+    public interface Listener {
+        void onEvent(RaceEvent event);
+    }
+
+    private static final RaceEvent.Type[] TYPES = RaceEvent.Type.values();
+    private static final long WRITING = -1;
+    private static final long SLEEP_NANOS = 50_000;
+
+    private final int mask;
+    private final AtomicLongArray sequences;
+    private final int[] types;
+    private final long[] ticks;
+    private final int[] leaders;
+    private final int[] previousLeaders;
+    private final long[] nanoTimes;
+    private final AtomicLong cursor = new AtomicLong(-1);
+    private volatile Subscription[] blocking = new Subscription[0];
+    private final AtomicInteger threads = new AtomicInteger();
+    private static final Logger logger = LogManager.getLogger(RaceEventBus.class);
+
+    public RaceEventBus(int capacity) {
+        if (capacity <= 0 || Integer.bitCount(capacity) != 1) {
+            logger.error("RaceEventBus: capacity is not a power of two");
+            throw new IllegalArgumentException("Capacity must be a power of two.");
+        }
+
+        this.mask = capacity - 1;
+        this.sequences = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            sequences.setPlain(i, WRITING);
+        }
+        this.types = new int[capacity];
+        this.ticks = new long[capacity];
+        this.leaders = new int[capacity];
+        this.previousLeaders = new int[capacity];
+        this.nanoTimes = new long[capacity];
+        logger.debug("Создание RaceEventBus, ёмкость {}", capacity);
+    }
+
+    public int getCapacity() {
+        return mask + 1;
+    }
+
+    public long getCursor() {
+        return cursor.get();
+    }
+
+    public void publish(RaceEvent.Type type, long tick, int leader, int previousLeader) {
+        long sequence = cursor.getPlain() + 1;
+        int slot = (int) sequence & mask;
+        sequences.setRelease(slot, WRITING);
+        VarHandle.storeStoreFence();
+        types[slot] = type.ordinal();
+        ticks[slot] = tick;
+        leaders[slot] = leader;
+        previousLeaders[slot] = previousLeader;
+        nanoTimes[slot] = System.nanoTime();
+        sequences.setRelease(slot, sequence);
+        cursor.set(sequence);
+        for (Subscription subscription : blocking) {
+            if (subscription.parked) {
+                LockSupport.unpark(subscription.thread);
+            }
+        }
+    }
+
+    public Subscription subscribe(Listener listener, WaitStrategy strategy) {
+        if (isNull(listener)) {
+            throw new IllegalArgumentException("Listener cannot be null.");
+        }
+        if (isNull(strategy)) {
+            throw new IllegalArgumentException("Wait strategy cannot be null.");
+        }
+        Subscription subscription = new Subscription(listener, strategy, cursor.get() + 1);
+        if (strategy == WaitStrategy.BLOCKING) {
+            synchronized (this) {
+                Subscription[] current = blocking;
+                Subscription[] updated = Arrays.copyOf(current, current.length + 1);
+                updated[current.length] = subscription;
+                blocking = updated;
+            }
+        }
+        subscription.thread.start();
+        return subscription;
+    }
+
+    boolean read(long sequence, RaceEvent event) {
+        int slot = (int) sequence & mask;
+        if (sequences.getAcquire(slot) != sequence) {
+            return false;
+        }
+        event.sequence = sequence;
+        event.type = TYPES[types[slot]];
+        event.tick = ticks[slot];
+        event.leader = leaders[slot];
+        event.previousLeader = previousLeaders[slot];
+        event.nanoTime = nanoTimes[slot];
+        VarHandle.loadLoadFence();
+        return sequences.getAcquire(slot) == sequence;
+    }
+
+    public class Subscription implements AutoCloseable {
+
+        private final Listener listener;
+        private final WaitStrategy strategy;
+        private final Thread thread;
+        private final RaceEvent event = new RaceEvent();
+        private final AtomicLong sequence;
+        private final AtomicLong dropped = new AtomicLong();
+        private volatile boolean parked;
+        private volatile boolean running = true;
+
+        Subscription(Listener listener, WaitStrategy strategy, long start) {
+            this.listener = listener;
+            this.strategy = strategy;
+            this.sequence = new AtomicLong(start);
+            this.thread = new Thread(this::consume, "race-events-" + threads.incrementAndGet());
+            this.thread.setDaemon(true);
+        }
+
+        public long getSequence() {
+            return sequence.get();
+        }
+
+        public long getDropped() {
+            return dropped.get();
+        }
+
+        @Override
+        public void close() {
+            running = false;
+            LockSupport.unpark(thread);
+            try {
+                thread.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            synchronized (RaceEventBus.this) {
+                blocking = Arrays.stream(blocking).filter(other -> other != this).toArray(Subscription[]::new);
+            }
+        }
+
+        private void consume() {
+            long next = sequence.get();
+            int idle = 0;
+            while (running) {
+                long available = cursor.getAcquire();
+                if (next > available) {
+                    idle = idle(idle, next);
+                    continue;
+                }
+                idle = 0;
+                long oldest = available - mask;
+                if (next < oldest) {
+                    dropped.addAndGet(oldest - next);
+                    next = oldest;
+                }
+                if (!read(next, event)) {
+                    continue;
+                }
+                try {
+                    listener.onEvent(event);
+                } catch (RuntimeException e) {
+                    logger.error("Ошибка в подписчике RaceEventBus", e);
+                }
+                sequence.lazySet(++next);
+            }
+        }
+
+        private int idle(int idle, long next) {
+            switch (strategy) {
+                case BUSY_SPIN:
+                    Thread.onSpinWait();
+                    break;
+                case YIELDING:
+                    Thread.yield();
+                    break;
+                case SLEEPING:
+                    if (idle < 100) {
+                        Thread.onSpinWait();
+                    } else {
+                        LockSupport.parkNanos(SLEEP_NANOS);
+                    }
+                    break;
+                default:
+                    parked = true;
+                    if (cursor.get() < next && running) {
+                        LockSupport.park(this);
+                    }
+                    parked = false;
+                    break;
+            }
+            return idle + 1;
+        }
+    }
+}
@@ -0,0 +1,292 @@
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.SplittableRandom;
+
+import static java.util.Objects.isNull;
+
+public class RaceField {
+
+    private final String[] names;
+    private final double[] speeds;
+    private final double[] distances;
+    private int size;
+    private long version;
+    private FieldHorse[] views;
+    private static final Logger logger = LogManager.getLogger(RaceField.class);
+
+    public RaceField(int capacity) {
+        if (capacity <= 0) {
+            logger.error("RaceField: capacity is not positive");
+            throw new IllegalArgumentException("Capacity must be positive.");
+        }
+
+        this.names = new String[capacity];
+        this.speeds = new double[capacity];
+        this.distances = new double[capacity];
+        logger.debug("Создание RaceField, ёмкость {}", capacity);
+    }
+
+    private RaceField(RaceField template) {
+        int size = template.size;
+        boolean full = template.names.length == size;
+        this.names = full ? template.names : Arrays.copyOf(template.names, size);
+        this.speeds = full ? template.speeds : Arrays.copyOf(template.speeds, size);
+        this.distances = Arrays.copyOf(template.distances, size);
+        this.size = size;
+    }
+
+    private RaceField(String[] names, double[] speeds, double[] distances, int size) {
+        this.names = names;
+        this.speeds = speeds;
+        this.distances = distances;
+        this.size = size;
+    }
+
+    static RaceField wrap(String[] names, double[] speeds, double[] distances, int size) {
+        if (names.length != size) {
+            names = Arrays.copyOf(names, size);
+            speeds = Arrays.copyOf(speeds, size);
+            distances = Arrays.copyOf(distances, size);
+        }
+        logger.debug("Создание RaceField из массивов, лошадей {}", size);
+        return new RaceField(names, speeds, distances, size);
+    }
+
+    public static RaceField of(List<Horse> horses) {
+        if (isNull(horses)) {
+            logger.error("Horses list is null");
+            throw new IllegalArgumentException("Horses cannot be null.");
+        } else if (horses.isEmpty()) {
+            logger.error("Horses list is empty");
+            throw new IllegalArgumentException("Horses cannot be empty.");
+        }
+
+        RaceField field = new RaceField(horses.size());
+        for (Horse horse : horses) {
+            field.add(horse.getName(), horse.getSpeed(), horse.getDistance());
+        }
+        return field;
+    }
+
+    static String validate(String name, double speed, double distance) {
+        if (isNull(name)) {
+            return "Name cannot be null.";
+        } else if (name.isBlank()) {
+            return "Name cannot be blank.";
+        }
+        if (speed < 0) {
+            return "Speed cannot be negative.";
+        }
+        if (distance < 0) {
+            return "Distance cannot be negative.";
+        }
+        return null;
+    }
+
+    public int add(String name, double speed, double distance) {
+        String error = validate(name, speed, distance);
+        if (error != null) {
+            logger.error("RaceField: {}", error);
+            throw new IllegalArgumentException(error);
+        }
+        if (size == names.length) {
+            logger.error("RaceField: capacity {} exceeded", names.length);
+            throw new IllegalStateException("Field is full.");
+        }
+
+        names[size] = name;
+        speeds[size] = speed;
+        distances[size] = distance;
+        version++;
+        return size++;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public String getName(int index) {
+        return names[checkIndex(index)];
+    }
+
+    public double getSpeed(int index) {
+        return speeds[checkIndex(index)];
+    }
+
+    public double getDistance(int index) {
+        return distances[checkIndex(index)];
+    }
+
+    public void move() {
+        double[] speeds = this.speeds;
+        double[] distances = this.distances;
+        for (int i = 0; i < size; i++) {
+            distances[i] += speeds[i] * Horse.getRandomDouble(0.2, 0.9);
+        }
+        version++;
+    }
+
+    void move(int from, int to, SplittableRandom random) {
+        double[] speeds = this.speeds;
+        double[] distances = this.distances;
+        for (int i = from; i < to; i++) {
+            distances[i] += speeds[i] * random.nextDouble(0.2, 0.9);
+        }
+    }
+
+    void setDistances(double[] source) {
+        System.arraycopy(source, 0, distances, 0, size);
+        version++;
+    }
+
+    void touch() {
+        version++;
+    }
+
+    public void move(int index) {
+        checkIndex(index);
+        distances[index] += speeds[index] * Horse.getRandomDouble(0.2, 0.9);
+        version++;
+    }
+
+    public int getWinnerIndex() {
+        if (size == 0) {
+            throw new IllegalStateException("Field is empty.");
+        }
+        double[] distances = this.distances;
+        int winner = 0;
+        double best = distances[0];
+        for (int i = 1; i < size; i++) {
+            if (distances[i] > best) {
+                best = distances[i];
+                winner = i;
+            }
+        }
+        return winner;
+    }
+
+    public int[] rank(int[] order) {
+        if (isNull(order) || order.length != size) {
+            throw new IllegalArgumentException("Order length must be equal to field size.");
+        }
+        for (int i = 0; i < size; i++) {
+            order[i] = i;
+        }
+        Leaderboard.sort(distances, order, 0, size - 1);
+        return order;
+    }
+
+    public RaceField copy() {
+        return new RaceField(this);
+    }
+
+    public void reset(RaceField template) {
+        if (isNull(template) || template.size != size) {
+            throw new IllegalArgumentException("Template size must be equal to field size.");
+        }
+        System.arraycopy(template.distances, 0, distances, 0, size);
+        version++;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    String[] names() {
+        return names;
+    }
+
+    double[] speeds() {
+        return speeds;
+    }
+
+    double[] distances() {
+        return distances;
+    }
+
+    int indexOf(Horse horse) {
+        if (horse instanceof FieldHorse && ((FieldHorse) horse).field == this) {
+            return ((FieldHorse) horse).index;
+        }
+        return -1;
+    }
+
+    public Horse getHorse(int index) {
+        checkIndex(index);
+        FieldHorse[] views = this.views;
+        if (views == null) {
+            views = new FieldHorse[names.length];
+            this.views = views;
+        }
+        FieldHorse horse = views[index];
+        if (horse == null) {
+            horse = new FieldHorse(this, index);
+            views[index] = horse;
+        }
+        return horse;
+    }
+
+    public List<Horse> asHorses() {
+        return new HorseList();
+    }
+
+    private int checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for size " + size);
+        }
+        return index;
+    }
+
+    private class HorseList extends AbstractList<Horse> implements RandomAccess {
+
+        @Override
+        public Horse get(int index) {
+            return getHorse(index);
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+
+    private static class FieldHorse extends Horse {
+
+        private final RaceField field;
+        private final int index;
+
+        FieldHorse(RaceField field, int index) {
+            super(field, index);
+            this.field = field;
+            this.index = index;
+        }
+
+        @Override
+        public double getDistance() {
+            return field.distances[index];
+        }
+
+        @Override
+        public void move() {
+            field.move(index);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof FieldHorse)) return false;
+            FieldHorse other = (FieldHorse) o;
+            return field == other.field && index == other.index;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * System.identityHashCode(field) + index;
+        }
+    }
+}
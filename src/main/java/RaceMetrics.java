@@ -0,0 +1,285 @@
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import javax.management.ConstructorParameters;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static java.util.Objects.isNull;
+
+public class RaceMetrics implements RaceMetricsMXBean {
+
+    public enum Phase {
+        MOVE, RANK, RENDER, RECORD
+    }
+
+    public static final int ALLOCATION_SAMPLE_INTERVAL = 64;
+    private static final Phase[] PHASES = Phase.values();
+
+    private final LatencyHistogram[] histograms = new LatencyHistogram[PHASES.length];
+    private final AtomicLong ticks = new AtomicLong();
+    private final AtomicLong allocatedBytes = new AtomicLong();
+    private final AtomicLong allocatedTicks = new AtomicLong();
+    private final AtomicBoolean sampling = new AtomicBoolean();
+    private final com.sun.management.ThreadMXBean threads;
+    private volatile long startNanos = System.nanoTime();
+    private long sampleThread = -1;
+    private long sampleBytes;
+    private long sampleTick;
+    private ObjectName name;
+    private static final Logger logger = LogManager.getLogger(RaceMetrics.class);
+
+    public RaceMetrics() {
+        for (int i = 0; i < histograms.length; i++) {
+            histograms[i] = new LatencyHistogram();
+        }
+        ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (bean instanceof com.sun.management.ThreadMXBean
+                && ((com.sun.management.ThreadMXBean) bean).isThreadAllocatedMemorySupported()
+                && ((com.sun.management.ThreadMXBean) bean).isThreadAllocatedMemoryEnabled()) {
+            this.threads = (com.sun.management.ThreadMXBean) bean;
+        } else {
+            this.threads = null;
+        }
+        logger.debug("Создание RaceMetrics, учёт аллокаций {}", threads != null);
+    }
+
+    public void record(Phase phase, long nanos) {
+        histograms[phase.ordinal()].record(nanos);
+    }
+
+    public void tick() {
+        long tick = ticks.incrementAndGet();
+        if (threads != null && tick % ALLOCATION_SAMPLE_INTERVAL == 0) {
+            sampleAllocation(tick);
+        }
+    }
+
+    public LatencyHistogram getHistogram(Phase phase) {
+        return histograms[phase.ordinal()];
+    }
+
+    @Override
+    public long getTicks() {
+        return ticks.get();
+    }
+
+    @Override
+    public double getTicksPerSecond() {
+        long elapsed = System.nanoTime() - startNanos;
+        return elapsed <= 0 ? 0 : ticks.get() * 1e9 / elapsed;
+    }
+
+    @Override
+    public double getAllocatedBytesPerTick() {
+        long sampled = allocatedTicks.get();
+        return sampled == 0 ? 0 : (double) allocatedBytes.get() / sampled;
+    }
+
+    @Override
+    public List<PhaseStats> getPhases() {
+        List<PhaseStats> phases = new ArrayList<>(PHASES.length);
+        for (Phase phase : PHASES) {
+            phases.add(PhaseStats.of(phase, histograms[phase.ordinal()]));
+        }
+        return Collections.unmodifiableList(phases);
+    }
+
+    public Snapshot snapshot() {
+        return new Snapshot(getTicks(), getTicksPerSecond(), getAllocatedBytesPerTick(), getPhases());
+    }
+
+    @Override
+    public synchronized void reset() {
+        for (LatencyHistogram histogram : histograms) {
+            histogram.reset();
+        }
+        ticks.set(0);
+        allocatedBytes.set(0);
+        allocatedTicks.set(0);
+        while (!sampling.compareAndSet(false, true)) {
+            Thread.onSpinWait();
+        }
+        sampleThread = -1;
+        sampling.set(false);
+        startNanos = System.nanoTime();
+    }
+
+    public synchronized ObjectName register(String name) {
+        if (isNull(name) || name.isBlank()) {
+            logger.error("RaceMetrics: name is blank");
+            throw new IllegalArgumentException("Name cannot be blank.");
+        }
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        try {
+            if (this.name != null) {
+                server.unregisterMBean(this.name);
+            }
+            ObjectName objectName = new ObjectName("hippodrome:type=RaceMetrics,name=" + ObjectName.quote(name));
+            server.registerMBean(this, objectName);
+            this.name = objectName;
+            logger.debug("Регистрация RaceMetrics в JMX: {}", objectName);
+            return objectName;
+        } catch (JMException e) {
+            logger.error("Ошибка регистрации RaceMetrics", e);
+            throw new IllegalStateException("Metrics cannot be registered.", e);
+        }
+    }
+
+    public synchronized void unregister() {
+        if (name == null) {
+            return;
+        }
+        try {
+            ManagementFactory.getPlatformMBeanServer().unregisterMBean(name);
+        } catch (JMException e) {
+            logger.error("Ошибка отмены регистрации RaceMetrics", e);
+        }
+        name = null;
+    }
+
+    private void sampleAllocation(long tick) {
+        if (!sampling.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            long thread = Thread.currentThread().getId();
+            long bytes = threads.getThreadAllocatedBytes(thread);
+            if (bytes < 0) {
+                return;
+            }
+            if (thread == sampleThread && tick > sampleTick) {
+                allocatedBytes.addAndGet(bytes - sampleBytes);
+                allocatedTicks.addAndGet(tick - sampleTick);
+            }
+            sampleThread = thread;
+            sampleBytes = threads.getThreadAllocatedBytes(thread);
+            sampleTick = tick;
+        } finally {
+            sampling.set(false);
+        }
+    }
+
+    public static class PhaseStats {
+
+        private final String phase;
+        private final long count;
+        private final double meanNanos;
+        private final long p50Nanos;
+        private final long p90Nanos;
+        private final long p99Nanos;
+        private final long p999Nanos;
+        private final long maxNanos;
+
+        @ConstructorParameters({"phase", "count", "meanNanos", "p50Nanos", "p90Nanos", "p99Nanos", "p999Nanos",
+                "maxNanos"})
+        public PhaseStats(String phase, long count, double meanNanos, long p50Nanos, long p90Nanos, long p99Nanos,
+                          long p999Nanos, long maxNanos) {
+            this.phase = phase;
+            this.count = count;
+            this.meanNanos = meanNanos;
+            this.p50Nanos = p50Nanos;
+            this.p90Nanos = p90Nanos;
+            this.p99Nanos = p99Nanos;
+            this.p999Nanos = p999Nanos;
+            this.maxNanos = maxNanos;
+        }
+
+        static PhaseStats of(Phase phase, LatencyHistogram histogram) {
+            return new PhaseStats(phase.name(), histogram.getCount(), histogram.getMean(),
+                    histogram.getPercentile(50), histogram.getPercentile(90), histogram.getPercentile(99),
+                    histogram.getPercentile(99.9), histogram.getMax());
+        }
+
+        public String getPhase() {
+            return phase;
+        }
+
+        public long getCount() {
+            return count;
+        }
+
+        public double getMeanNanos() {
+            return meanNanos;
+        }
+
+        public long getP50Nanos() {
+            return p50Nanos;
+        }
+
+        public long getP90Nanos() {
+            return p90Nanos;
+        }
+
+        public long getP99Nanos() {
+            return p99Nanos;
+        }
+
+        public long getP999Nanos() {
+            return p999Nanos;
+        }
+
+        public long getMaxNanos() {
+            return maxNanos;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%s: count=%d mean=%.0fns p50=%dns p99=%dns p99.9=%dns max=%dns",
+                    phase, count, meanNanos, p50Nanos, p99Nanos, p999Nanos, maxNanos);
+        }
+    }
+
+    public static class Snapshot {
+
+        private final long ticks;
+        private final double ticksPerSecond;
+        private final double allocatedBytesPerTick;
+        private final List<PhaseStats> phases;
+
+        Snapshot(long ticks, double ticksPerSecond, double allocatedBytesPerTick, List<PhaseStats> phases) {
+            this.ticks = ticks;
+            this.ticksPerSecond = ticksPerSecond;
+            this.allocatedBytesPerTick = allocatedBytesPerTick;
+            this.phases = phases;
+        }
+
+        public long getTicks() {
+            return ticks;
+        }
+
+        public double getTicksPerSecond() {
+            return ticksPerSecond;
+        }
+
+        public double getAllocatedBytesPerTick() {
+            return allocatedBytesPerTick;
+        }
+
+        public List<PhaseStats> getPhases() {
+            return phases;
+        }
+
+        public PhaseStats getPhase(Phase phase) {
+            return phases.get(phase.ordinal());
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder builder = new StringBuilder(String.format("ticks=%d ticks/s=%.1f bytes/tick=%.0f",
+                    ticks, ticksPerSecond, allocatedBytesPerTick));
+            for (PhaseStats phase : phases) {
+                builder.append(System.lineSeparator()).append(phase);
+            }
+            return builder.toString();
+        }
+    }
+}
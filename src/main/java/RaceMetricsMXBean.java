@@ -0,0 +1,14 @@
+import java.util.List;
+
+public interface RaceMetricsMXBean {
+
+    long getTicks();
+
+    double getTicksPerSecond();
+
+    double getAllocatedBytesPerTick();
+
+    List<RaceMetrics.PhaseStats> getPhases();
+
+    void reset();
+}
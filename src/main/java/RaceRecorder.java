@@ -0,0 +1,253 @@
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+import static java.util.Objects.isNull;
+
+public class RaceRecorder implements AutoCloseable {
+
+    static final int MAGIC = 0x48495052;
+    static final int FOOTER_MAGIC = 0x48495045;
+    static final int VERSION = 1;
+    static final int KEYFRAME_INTERVAL = 32;
+    public static final double DEFAULT_RESOLUTION = 0;
+    static final long REGION_SIZE = 64L << 20;
+    private static final int BUFFERS = 2;
+    private static final double[] END = new double[0];
+    private static final double[] FAILED = new double[0];
+
+    private final FileChannel channel;
+    private final Hippodrome hippodrome;
+    private final int size;
+    private final double[] keyframe;
+    private final byte[] scratch;
+    private final double resolution;
+    private final double scale;
+    private final int maxRecord;
+    private final BlockingQueue<double[]> free = new ArrayBlockingQueue<>(BUFFERS + 1);
+    private final BlockingQueue<double[]> filled = new ArrayBlockingQueue<>(BUFFERS + 1);
+    private final Thread writer;
+    private volatile IOException failure;
+    private long[] index = new long[1024];
+    private MappedByteBuffer region;
+    private long regionStart;
+    private int ticks;
+    private int written;
+    private static final Logger logger = LogManager.getLogger(RaceRecorder.class);
+
+    public RaceRecorder(Path file, Hippodrome hippodrome) throws IOException {
+        this(file, hippodrome, DEFAULT_RESOLUTION);
+    }
+
+    public RaceRecorder(Path file, Hippodrome hippodrome, double resolution) throws IOException {
+        if (isNull(file)) {
+            logger.error("RaceRecorder: file is null");
+            throw new IllegalArgumentException("File cannot be null.");
+        }
+        if (isNull(hippodrome)) {
+            logger.error("RaceRecorder: hippodrome is null");
+            throw new IllegalArgumentException("Hippodrome cannot be null.");
+        }
+        if (!(resolution >= 0) || Double.isInfinite(resolution)) {
+            logger.error("RaceRecorder: resolution is negative");
+            throw new IllegalArgumentException("Resolution cannot be negative.");
+        }
+
+        this.hippodrome = hippodrome;
+        this.size = hippodrome.getHorses().size();
+        this.keyframe = new double[size];
+        this.resolution = resolution;
+        this.scale = resolution == 0 ? 0 : 1 / resolution;
+        this.maxRecord = Integer.BYTES + size * 10;
+        this.scratch = new byte[size * 10];
+        this.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            writeHeader();
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+        for (int i = 0; i < BUFFERS; i++) {
+            free.add(new double[size]);
+        }
+        this.writer = new Thread(this::write, "race-recorder");
+        this.writer.setDaemon(true);
+        this.writer.start();
+        logger.debug("Создание RaceRecorder, файл {}, лошадей {}", file, size);
+    }
+
+    public int getTicks() {
+        return ticks;
+    }
+
+    public void record() throws IOException {
+        RaceMetrics metrics = hippodrome.getMetrics();
+        long start = metrics != null ? System.nanoTime() : 0;
+        checkFailure();
+        double[] buffer;
+        try {
+            buffer = free.take();
+            if (buffer == FAILED) {
+                free.add(FAILED);
+                checkFailure();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for recorder.");
+        }
+        RaceField field = hippodrome.getField();
+        if (field != null) {
+            System.arraycopy(field.distances(), 0, buffer, 0, size);
+        } else {
+            for (int i = 0; i < size; i++) {
+                buffer[i] = hippodrome.getDistance(i);
+            }
+        }
+        filled.add(buffer);
+        ticks++;
+        if (metrics != null) {
+            metrics.record(RaceMetrics.Phase.RECORD, System.nanoTime() - start);
+        }
+    }
+
+    private void write() {
+        try {
+            for (double[] distances = filled.take(); distances != END; distances = filled.take()) {
+                encode(distances);
+                free.add(distances);
+            }
+        } catch (IOException e) {
+            fail(e);
+        } catch (InterruptedException e) {
+            fail(new InterruptedIOException("Recorder interrupted."));
+        } catch (RuntimeException | Error e) {
+            fail(new IOException("Recorder writer failed.", e));
+            throw e;
+        }
+    }
+
+    private void fail(IOException e) {
+        logger.error("Ошибка записи гонки", e);
+        failure = e;
+        free.add(FAILED);
+    }
+
+    private void encode(double[] distances) throws IOException {
+        ensure(maxRecord);
+        if (written == index.length) {
+            index = Arrays.copyOf(index, written * 2);
+        }
+        byte[] out = scratch;
+        int length = 0;
+        if (written % KEYFRAME_INTERVAL == 0) {
+            System.arraycopy(distances, 0, keyframe, 0, size);
+            for (int i = 0; i < size; i++) {
+                long bits = Double.doubleToRawLongBits(distances[i]);
+                for (int shift = 56; shift >= 0; shift -= 8) {
+                    out[length++] = (byte) (bits >>> shift);
+                }
+            }
+        } else if (resolution == 0) {
+            for (int i = 0; i < size; i++) {
+                long xor = Double.doubleToRawLongBits(distances[i]) ^ Double.doubleToRawLongBits(keyframe[i]);
+                length = putVarLong(out, length, xor);
+            }
+        } else {
+            double[] keyframe = this.keyframe;
+            double scale = this.scale;
+            for (int i = 0; i < size; i++) {
+                long steps = Math.round((distances[i] - keyframe[i]) * scale);
+                length = putVarLong(out, length, (steps << 1) ^ (steps >> 63));
+            }
+        }
+        index[written] = regionStart + region.position();
+        region.putInt(length);
+        region.put(out, 0, length);
+        written++;
+    }
+
+    private void checkFailure() throws IOException {
+        if (failure != null) {
+            throw new IOException("Recording failed.", failure);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            filled.offer(END);
+            try {
+                writer.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while closing recorder.");
+            }
+            checkFailure();
+            ensure((long) written * Long.BYTES + Long.BYTES + 2 * Integer.BYTES);
+            long indexOffset = regionStart + region.position();
+            for (int tick = 0; tick < written; tick++) {
+                region.putLong(index[tick]);
+            }
+            region.putLong(indexOffset);
+            region.putInt(written);
+            region.putInt(FOOTER_MAGIC);
+            long length = regionStart + region.position();
+            region.force();
+            region = null;
+            channel.truncate(length);
+            logger.debug("Закрытие RaceRecorder, тиков {}, байт {}", ticks, length);
+        } finally {
+            channel.close();
+        }
+    }
+
+    private void writeHeader() throws IOException {
+        byte[][] names = new byte[size][];
+        long headerSize = 4L * Integer.BYTES + Double.BYTES;
+        for (int i = 0; i < size; i++) {
+            names[i] = hippodrome.getName(i).getBytes(StandardCharsets.UTF_8);
+            headerSize += 2L * Double.BYTES + Integer.BYTES + names[i].length;
+        }
+        ensure(headerSize);
+        region.putInt(MAGIC);
+        region.putInt(VERSION);
+        region.putInt(KEYFRAME_INTERVAL);
+        region.putDouble(resolution);
+        region.putInt(size);
+        for (int i = 0; i < size; i++) {
+            region.putDouble(hippodrome.getSpeed(i));
+            region.putDouble(hippodrome.getDistance(i));
+            region.putInt(names[i].length);
+            region.put(names[i]);
+        }
+    }
+
+    private void ensure(long bytes) throws IOException {
+        if (region != null && region.remaining() >= bytes) {
+            return;
+        }
+        long position = region == null ? 0 : regionStart + region.position();
+        region = channel.map(FileChannel.MapMode.READ_WRITE, position, Math.max(REGION_SIZE, bytes));
+        regionStart = position;
+    }
+
+    private static int putVarLong(byte[] out, int position, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out[position++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out[position++] = (byte) value;
+        return position;
+    }
+}
@@ -0,0 +1,201 @@
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+import static java.util.Objects.isNull;
+
+public class RaceReplay {
+
+    private final Path file;
+    private final long length;
+    private final long regionSize;
+    private final int keyframeInterval;
+    private final double resolution;
+    private final RaceField field;
+    private final double[] initial;
+    private final double[] distances;
+    private final long[] index;
+    private MappedByteBuffer region;
+    private long regionStart;
+    private Hippodrome hippodrome;
+    private static final Logger logger = LogManager.getLogger(RaceReplay.class);
+
+    public RaceReplay(Path file) throws IOException {
+        this(file, RaceRecorder.REGION_SIZE);
+    }
+
+    RaceReplay(Path file, long regionSize) throws IOException {
+        if (isNull(file)) {
+            logger.error("RaceReplay: file is null");
+            throw new IllegalArgumentException("File cannot be null.");
+        }
+
+        this.file = file;
+        this.regionSize = regionSize;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            this.length = channel.size();
+        }
+        long position = 0;
+        if (length < 4 * Integer.BYTES + Double.BYTES || region(position, 4 * Integer.BYTES + Double.BYTES)
+                .getInt(offset(position)) != RaceRecorder.MAGIC) {
+            logger.error("RaceReplay: {} is not a race recording", file);
+            throw new IOException("Not a race recording: " + file);
+        }
+        int version = region.getInt(offset(position + Integer.BYTES));
+        if (version != RaceRecorder.VERSION) {
+            logger.error("RaceReplay: unsupported version {}", version);
+            throw new IOException("Unsupported recording version: " + version);
+        }
+        this.keyframeInterval = region.getInt(offset(position + 2 * Integer.BYTES));
+        this.resolution = region.getDouble(offset(position + 3 * Integer.BYTES));
+        int size = region.getInt(offset(position + 3 * Integer.BYTES + Double.BYTES));
+        position += 4 * Integer.BYTES + Double.BYTES;
+        this.field = new RaceField(size);
+        this.initial = new double[size];
+        this.distances = new double[size];
+        for (int i = 0; i < size; i++) {
+            region(position, 2 * Double.BYTES + Integer.BYTES);
+            double speed = region.getDouble(offset(position));
+            initial[i] = region.getDouble(offset(position + Double.BYTES));
+            byte[] name = new byte[region.getInt(offset(position + 2 * Double.BYTES))];
+            position += 2 * Double.BYTES + Integer.BYTES;
+            region(position, name.length).get(offset(position), name);
+            position += name.length;
+            field.add(new String(name, StandardCharsets.UTF_8), speed, initial[i]);
+        }
+        this.index = readIndex(position);
+        logger.debug("Открытие RaceReplay, файл {}, лошадей {}, тиков {}", file, size, index.length);
+    }
+
+    public double getResolution() {
+        return resolution;
+    }
+
+    public int getTicks() {
+        return index.length;
+    }
+
+    public RaceField getField() {
+        return field;
+    }
+
+    public Hippodrome toHippodrome() {
+        if (hippodrome == null) {
+            hippodrome = Hippodrome.of(field);
+        }
+        return hippodrome;
+    }
+
+    public void seek(int tick) throws IOException {
+        read(tick, distances);
+        field.setDistances(distances);
+        if (hippodrome != null) {
+            hippodrome.sync();
+        }
+    }
+
+    public void read(int tick, double[] out) throws IOException {
+        if (tick < 0 || tick > index.length) {
+            throw new IndexOutOfBoundsException("Tick " + tick + " out of bounds for " + index.length + " ticks");
+        }
+        if (isNull(out) || out.length < field.size()) {
+            throw new IllegalArgumentException("Output length must be at least field size.");
+        }
+        int size = field.size();
+        if (tick == 0) {
+            System.arraycopy(initial, 0, out, 0, size);
+            return;
+        }
+        int record = tick - 1;
+        int keyframe = record - record % keyframeInterval;
+        long start = index[keyframe] + Integer.BYTES;
+        MappedByteBuffer data = region(start, (long) size * Long.BYTES);
+        int position = offset(start);
+        for (int i = 0; i < size; i++) {
+            out[i] = Double.longBitsToDouble(data.getLong(position));
+            position += Long.BYTES;
+        }
+        if (record == keyframe) {
+            return;
+        }
+        data = region(index[record], Integer.BYTES);
+        int recordLength = data.getInt(offset(index[record]));
+        start = index[record] + Integer.BYTES;
+        data = region(start, recordLength);
+        position = offset(start);
+        for (int i = 0; i < size; i++) {
+            long value = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = data.get(position++);
+                value |= (long) (b & 0x7F) << shift;
+                shift += 7;
+            } while (b < 0);
+            if (resolution == 0) {
+                out[i] = Double.longBitsToDouble(Double.doubleToRawLongBits(out[i]) ^ value);
+            } else {
+                out[i] += ((value >>> 1) ^ -(value & 1)) * resolution;
+            }
+        }
+    }
+
+    private long[] readIndex(long records) throws IOException {
+        long footer = length - Long.BYTES - 2 * Integer.BYTES;
+        if (footer >= records && region(footer, Long.BYTES + 2 * Integer.BYTES)
+                .getInt(offset(length - Integer.BYTES)) == RaceRecorder.FOOTER_MAGIC) {
+            int ticks = region.getInt(offset(length - 2 * Integer.BYTES));
+            long offset = region.getLong(offset(footer));
+            long[] index = new long[ticks];
+            for (int tick = 0; tick < ticks; tick++) {
+                long entry = offset + (long) tick * Long.BYTES;
+                index[tick] = region(entry, Long.BYTES).getLong(offset(entry));
+            }
+            return index;
+        }
+
+        logger.warn("RaceReplay: footer not found, index rebuilt by scanning records");
+        long[] index = new long[1024];
+        int ticks = 0;
+        long position = records;
+        while (position + Integer.BYTES <= length) {
+            int recordLength = region(position, Integer.BYTES).getInt(offset(position));
+            if (recordLength <= 0 || position + Integer.BYTES + recordLength > length) {
+                break;
+            }
+            if (ticks == index.length) {
+                index = Arrays.copyOf(index, ticks * 2);
+            }
+            index[ticks++] = position;
+            position += Integer.BYTES + recordLength;
+        }
+        return Arrays.copyOf(index, ticks);
+    }
+
+    private MappedByteBuffer region(long position, long bytes) throws IOException {
+        if (region != null && position >= regionStart && position + bytes <= regionStart + region.capacity()) {
+            return region;
+        }
+        if (position + bytes > length) {
+            logger.error("RaceReplay: {} is truncated at {}", file, position);
+            throw new IOException("Truncated race recording: " + file);
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            region = channel.map(FileChannel.MapMode.READ_ONLY, position,
+                    Math.min(length - position, Math.max(regionSize, bytes)));
+        }
+        regionStart = position;
+        return region;
+    }
+
+    private int offset(long position) {
+        return (int) (position - regionStart);
+    }
+}
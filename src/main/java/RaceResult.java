@@ -0,0 +1,53 @@
+import java.time.Duration;
+
+public class RaceResult {
+
+    public enum Status {
+        FINISHED, DEADLINE_EXCEEDED, FAILED, CANCELLED
+    }
+
+    private final String id;
+    private final Status status;
+    private final String winner;
+    private final int ticks;
+    private final Duration elapsed;
+    private final Throwable failure;
+
+    RaceResult(String id, Status status, String winner, int ticks, Duration elapsed, Throwable failure) {
+        this.id = id;
+        this.status = status;
+        this.winner = winner;
+        this.ticks = ticks;
+        this.elapsed = elapsed;
+        this.failure = failure;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public String getWinner() {
+        return winner;
+    }
+
+    public int getTicks() {
+        return ticks;
+    }
+
+    public Duration getElapsed() {
+        return elapsed;
+    }
+
+    public Throwable getFailure() {
+        return failure;
+    }
+
+    @Override
+    public String toString() {
+        return "RaceResult{id=" + id + ", status=" + status + ", winner=" + winner + ", ticks=" + ticks + "}";
+    }
+}
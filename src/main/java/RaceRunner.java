@@ -0,0 +1,222 @@
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import static java.util.Objects.isNull;
+
+public class RaceRunner implements AutoCloseable {
+
+    private final ScheduledThreadPoolExecutor scheduler;
+    private final Semaphore permits;
+    private final Consumer<RaceResult> results;
+    private final AtomicInteger running = new AtomicInteger();
+    private final Set<Race> active = ConcurrentHashMap.newKeySet();
+    private volatile boolean closed;
+    private static final Duration CLOSE_GRACE = Duration.ofMinutes(1);
+    private static final Logger logger = LogManager.getLogger(RaceRunner.class);
+
+    public RaceRunner(int maxConcurrentRaces, Consumer<RaceResult> results) {
+        this(Runtime.getRuntime().availableProcessors(), maxConcurrentRaces, results);
+    }
+
+    public RaceRunner(int threads, int maxConcurrentRaces, Consumer<RaceResult> results) {
+        if (threads <= 0) {
+            logger.error("RaceRunner: threads is not positive");
+            throw new IllegalArgumentException("Threads must be positive.");
+        }
+        if (maxConcurrentRaces <= 0) {
+            logger.error("RaceRunner: max concurrent races is not positive");
+            throw new IllegalArgumentException("Max concurrent races must be positive.");
+        }
+        if (isNull(results)) {
+            logger.error("RaceRunner: results consumer is null");
+            throw new IllegalArgumentException("Results cannot be null.");
+        }
+
+        AtomicInteger counter = new AtomicInteger();
+        this.scheduler = new ScheduledThreadPoolExecutor(threads, runnable -> {
+            Thread thread = new Thread(runnable, "race-runner-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.scheduler.setRemoveOnCancelPolicy(true);
+        this.permits = new Semaphore(maxConcurrentRaces);
+        this.results = results;
+        logger.debug("Создание RaceRunner, потоков {}, одновременных забегов {}", threads, maxConcurrentRaces);
+    }
+
+    public CompletableFuture<RaceResult> submit(RaceDefinition definition) throws InterruptedException {
+        if (isNull(definition)) {
+            throw new IllegalArgumentException("Definition cannot be null.");
+        }
+        if (closed) {
+            throw new RejectedExecutionException("Runner is closed.");
+        }
+
+        permits.acquire();
+        Race race = null;
+        try {
+            race = new Race(definition);
+            running.incrementAndGet();
+            active.add(race);
+            if (closed) {
+                throw new RejectedExecutionException("Runner is closed.");
+            }
+            race.start();
+        } catch (RuntimeException e) {
+            running.decrementAndGet();
+            active.remove(race);
+            permits.release();
+            throw e;
+        }
+        return race.future;
+    }
+
+    public int getRunningRaces() {
+        return running.get();
+    }
+
+    @Override
+    public void close() {
+        close(CLOSE_GRACE);
+    }
+
+    void close(Duration grace) {
+        closed = true;
+        CompletableFuture<?> inFlight = CompletableFuture.allOf(active.stream()
+                .map(race -> race.future).toArray(CompletableFuture[]::new));
+        try {
+            try {
+                inFlight.get(grace.toNanos(), TimeUnit.NANOSECONDS);
+            } catch (TimeoutException | ExecutionException e) {
+                cancelActive();
+            }
+            scheduler.shutdown();
+            if (!scheduler.awaitTermination(1, TimeUnit.MINUTES)) {
+                scheduler.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            cancelActive();
+            scheduler.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void cancelActive() {
+        for (Race race : active) {
+            race.cancel();
+        }
+    }
+
+    private class Race implements Runnable {
+
+        private final RaceDefinition definition;
+        private final Hippodrome hippodrome;
+        private final CompletableFuture<RaceResult> future = new CompletableFuture<>();
+        private final long intervalNanos;
+        private final long startNanos;
+        private final long deadlineNanos;
+        private final AtomicBoolean done = new AtomicBoolean();
+        private volatile int tick;
+        private volatile ScheduledFuture<?> next;
+        private volatile ScheduledFuture<?> deadline;
+
+        Race(RaceDefinition definition) {
+            this.definition = definition;
+            this.hippodrome = Hippodrome.packed(definition.getHorses());
+            this.intervalNanos = definition.getTickInterval().toNanos();
+            this.startNanos = System.nanoTime();
+            this.deadlineNanos = startNanos + definition.getDeadline().toNanos();
+        }
+
+        void start() {
+            deadline = scheduler.schedule(this::expire, deadlineNanos - System.nanoTime(), TimeUnit.NANOSECONDS);
+            scheduler.execute(this);
+        }
+
+        @Override
+        public void run() {
+            if (done.get()) {
+                return;
+            }
+            try {
+                do {
+                    if (System.nanoTime() - deadlineNanos > 0) {
+                        expire();
+                        return;
+                    }
+                    hippodrome.move();
+                    tick++;
+                } while (intervalNanos == 0 && tick < definition.getTicks() && !done.get());
+
+                if (tick >= definition.getTicks()) {
+                    finish(RaceResult.Status.FINISHED, null);
+                } else if (!done.get()) {
+                    long delay = startNanos + tick * intervalNanos - System.nanoTime();
+                    next = scheduler.schedule(this, Math.max(delay, 0), TimeUnit.NANOSECONDS);
+                    if (done.get()) {
+                        next.cancel(false);
+                    }
+                }
+            } catch (RuntimeException e) {
+                logger.error("Ошибка в забеге {}", definition.getId(), e);
+                finish(RaceResult.Status.FAILED, e);
+            }
+        }
+
+        void expire() {
+            logger.info("Забег {} не уложился в срок {} мс, тик {}", definition.getId(),
+                    definition.getDeadline().toMillis(), tick);
+            finish(RaceResult.Status.DEADLINE_EXCEEDED, null);
+        }
+
+        void cancel() {
+            logger.info("Забег {} отменён при закрытии RaceRunner на тике {}", definition.getId(), tick);
+            finish(RaceResult.Status.CANCELLED, null);
+        }
+
+        private void finish(RaceResult.Status status, Throwable failure) {
+            if (!done.compareAndSet(false, true)) {
+                return;
+            }
+            cancel(next);
+            cancel(deadline);
+            String winner = null;
+            if (status == RaceResult.Status.FINISHED) {
+                hippodrome.finish();
+                winner = hippodrome.getWinner().getName();
+            }
+            RaceResult result = new RaceResult(definition.getId(), status, winner, tick,
+                    Duration.ofNanos(System.nanoTime() - startNanos), failure);
+            running.decrementAndGet();
+            active.remove(this);
+            permits.release();
+            try {
+                results.accept(result);
+            } catch (RuntimeException e) {
+                logger.error("Ошибка при публикации результата забега {}", definition.getId(), e);
+            }
+            future.complete(result);
+        }
+
+        private void cancel(ScheduledFuture<?> task) {
+            if (task != null) {
+                task.cancel(false);
+            }
+        }
+    }
+}
@@ -0,0 +1,143 @@
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.util.Objects.isNull;
+
+public class RaceScheduler {
+
+    public enum Mode {
+        REALTIME, HEADLESS
+    }
+
+    public interface Display {
+        void show(RaceSnapshot snapshot) throws IOException;
+    }
+
+    private final Hippodrome hippodrome;
+    private final int ticks;
+    private final Duration tickInterval;
+    private final Duration displayInterval;
+    private final Mode mode;
+    private final AtomicInteger completed = new AtomicInteger();
+    private volatile Throwable failure;
+    private static final Logger logger = LogManager.getLogger(RaceScheduler.class);
+
+    public RaceScheduler(Hippodrome hippodrome, int ticks, Duration tickInterval, Duration displayInterval, Mode mode) {
+        if (isNull(hippodrome)) {
+            logger.error("RaceScheduler: hippodrome is null");
+            throw new IllegalArgumentException("Hippodrome cannot be null.");
+        }
+        if (ticks <= 0) {
+            logger.error("RaceScheduler: ticks is not positive");
+            throw new IllegalArgumentException("Ticks must be positive.");
+        }
+        if (isNull(mode)) {
+            logger.error("RaceScheduler: mode is null");
+            throw new IllegalArgumentException("Mode cannot be null.");
+        }
+        if (mode == Mode.REALTIME && (isNull(tickInterval) || tickInterval.isNegative() || tickInterval.isZero())) {
+            logger.error("RaceScheduler: tick interval is not positive");
+            throw new IllegalArgumentException("Tick interval must be positive.");
+        }
+        if (mode == Mode.REALTIME && (isNull(displayInterval) || displayInterval.isNegative() || displayInterval.isZero())) {
+            logger.error("RaceScheduler: display interval is not positive");
+            throw new IllegalArgumentException("Display interval must be positive.");
+        }
+
+        this.hippodrome = hippodrome;
+        this.ticks = ticks;
+        this.tickInterval = tickInterval;
+        this.displayInterval = displayInterval;
+        this.mode = mode;
+    }
+
+    public static RaceScheduler headless(Hippodrome hippodrome, int ticks) {
+        return new RaceScheduler(hippodrome, ticks, null, null, Mode.HEADLESS);
+    }
+
+    public int getCompletedTicks() {
+        return completed.get();
+    }
+
+    public void run(Display display) throws InterruptedException, IOException {
+        logger.debug("Запуск RaceScheduler, режим {}, тиков {}", mode, ticks);
+        if (mode == Mode.HEADLESS) {
+            for (int i = 0; i < ticks; i++) {
+                hippodrome.move();
+                completed.lazySet(i + 1);
+            }
+            hippodrome.finish();
+            return;
+        }
+        if (isNull(display)) {
+            throw new IllegalArgumentException("Display cannot be null.");
+        }
+
+        SnapshotBuffer snapshots = hippodrome.enableSnapshots();
+        CountDownLatch finished = new CountDownLatch(1);
+        ScheduledExecutorService executor = Executors.newScheduledThreadPool(2, runnable -> {
+            Thread thread = new Thread(runnable, "race-scheduler");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            long tickNanos = tickInterval.toNanos();
+            executor.scheduleAtFixedRate(() -> {
+                if (completed.get() >= ticks) {
+                    return;
+                }
+                try {
+                    hippodrome.move();
+                } catch (RuntimeException e) {
+                    fail(e, finished);
+                    throw e;
+                }
+                if (completed.incrementAndGet() == ticks) {
+                    finished.countDown();
+                }
+            }, tickNanos, tickNanos, TimeUnit.NANOSECONDS);
+            executor.scheduleAtFixedRate(() -> {
+                try {
+                    show(display, snapshots);
+                } catch (IOException | RuntimeException e) {
+                    fail(e, finished);
+                }
+            }, 0, displayInterval.toNanos(), TimeUnit.NANOSECONDS);
+            finished.await();
+        } finally {
+            executor.shutdownNow();
+            executor.awaitTermination(1, TimeUnit.MINUTES);
+        }
+
+        if (failure != null) {
+            throw new IllegalStateException("Race failed.", failure);
+        }
+        hippodrome.finish();
+        show(display, snapshots);
+    }
+
+    private void show(Display display, SnapshotBuffer snapshots) throws IOException {
+        RaceMetrics metrics = hippodrome.getMetrics();
+        if (metrics == null) {
+            display.show(snapshots.snapshot());
+            return;
+        }
+        long start = System.nanoTime();
+        display.show(snapshots.snapshot());
+        metrics.record(RaceMetrics.Phase.RENDER, System.nanoTime() - start);
+    }
+
+    private void fail(Throwable e, CountDownLatch finished) {
+        logger.error("Ошибка в RaceScheduler", e);
+        failure = e;
+        finished.countDown();
+    }
+}
@@ -0,0 +1,87 @@
+public class RaceSnapshot {
+
+    private final long tick;
+    private final int leader;
+    private final int size;
+    private final String[] names;
+    private final double[] speeds;
+    private final double[] distances;
+
+    RaceSnapshot(long tick, int leader, int size, String[] names, double[] speeds, double[] distances) {
+        this.tick = tick;
+        this.leader = leader;
+        this.size = size;
+        this.names = names;
+        this.speeds = speeds;
+        this.distances = distances;
+    }
+
+    public long getTick() {
+        return tick;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public String getName(int index) {
+        checkIndex(index);
+        return names[index];
+    }
+
+    public double getSpeed(int index) {
+        checkIndex(index);
+        return speeds[index];
+    }
+
+    public double getDistance(int index) {
+        checkIndex(index);
+        return distances[index];
+    }
+
+    public int getLeader() {
+        return leader;
+    }
+
+    public int getTopK(int k, int[] out) {
+        if (k < 0) {
+            throw new IllegalArgumentException("K cannot be negative.");
+        }
+        k = Math.min(k, size);
+        if (out.length < k) {
+            throw new IllegalArgumentException("Output is too small.");
+        }
+        if (k == 0) {
+            return 0;
+        }
+
+        double[] distances = this.distances;
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+            if (count == k) {
+                if (!Leaderboard.ahead(distances, i, out[k - 1])) {
+                    continue;
+                }
+                count--;
+            }
+            int j = count++;
+            while (j > 0 && Leaderboard.ahead(distances, i, out[j - 1])) {
+                out[j] = out[j - 1];
+                j--;
+            }
+            out[j] = i;
+        }
+        return count;
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for size " + size);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "RaceSnapshot{tick=" + tick + ", size=" + size + ", leader=" + leader + '}';
+    }
+}
@@ -0,0 +1,22 @@
+class ScalarMoveKernel extends MoveKernel {
+
+    ScalarMoveKernel(long seed) {
+        super(seed);
+    }
+
+    @Override
+    void move(double[] speeds, double[] distances, int from, int to) {
+        int i = from;
+        for (; i + LANES <= to; i += LANES) {
+            moveBlock(speeds, distances, i, LANES);
+        }
+        if (i < to) {
+            moveBlock(speeds, distances, i, to - i);
+        }
+    }
+
+    @Override
+    boolean isVectorized() {
+        return false;
+    }
+}
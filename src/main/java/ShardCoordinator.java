@@ -0,0 +1,337 @@
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.Channels;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.Objects.isNull;
+
+public class ShardCoordinator implements AutoCloseable {
+
+    private static final Duration CONNECT_TIMEOUT = Duration.ofSeconds(30);
+    private static final String VECTOR_MODULE = "jdk.incubator.vector";
+
+    private final Path file;
+    private final int size;
+    private final int topK;
+    private final Path socket;
+    private final Process[] processes;
+    private final SocketChannel[] channels;
+    private final DataInputStream[] inputs;
+    private final DataOutputStream[] outputs;
+    private final int[] candidates;
+    private final double[] candidateDistances;
+    private final int[] top;
+    private final double[] topDistances;
+    private final LatencyHistogram tickLatency = new LatencyHistogram();
+    private final LatencyHistogram overhead = new LatencyHistogram();
+    private int topCount;
+    private long tick;
+    private boolean closed;
+    private static final Logger logger = LogManager.getLogger(ShardCoordinator.class);
+
+    public ShardCoordinator(Path file, int shards, int topK, long seed) throws IOException {
+        if (isNull(file)) {
+            logger.error("ShardCoordinator: file is null");
+            throw new IllegalArgumentException("File cannot be null.");
+        }
+        int size = FieldLoader.binarySize(file);
+        if (shards <= 0 || shards > size) {
+            logger.error("ShardCoordinator: shards is out of range");
+            throw new IllegalArgumentException("Shards must be between 1 and the number of horses.");
+        }
+        if (topK <= 0) {
+            logger.error("ShardCoordinator: top K is not positive");
+            throw new IllegalArgumentException("Top K must be positive.");
+        }
+
+        this.file = file.toAbsolutePath();
+        this.size = size;
+        this.topK = topK;
+        this.processes = new Process[shards];
+        this.channels = new SocketChannel[shards];
+        this.inputs = new DataInputStream[shards];
+        this.outputs = new DataOutputStream[shards];
+        this.candidates = new int[shards * topK];
+        this.candidateDistances = new double[shards * topK];
+        this.top = new int[Math.min(topK, size)];
+        this.topDistances = new double[top.length];
+        this.socket = Files.createTempDirectory("hippodrome-shards").resolve("coordinator.sock");
+        try (ServerSocketChannel server = ServerSocketChannel.open(StandardProtocolFamily.UNIX)) {
+            server.bind(UnixDomainSocketAddress.of(socket));
+            for (int i = 0; i < shards; i++) {
+                processes[i] = spawn(i);
+            }
+            accept(server);
+            long[] seeds = shardSeeds(seed, shards);
+            for (int i = 0; i < shards; i++) {
+                sendPartition(i, seeds[i]);
+            }
+            collect();
+        } catch (IOException | RuntimeException e) {
+            close();
+            throw e;
+        }
+        logger.debug("Создание ShardCoordinator, лошадей {}, шардов {}, top K {}, кандидатов в памяти {}",
+                size, shards, topK, candidates.length);
+    }
+
+    public int getShards() {
+        return processes.length;
+    }
+
+    public long getTick() {
+        return tick;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public void move() throws IOException {
+        checkOpen();
+        long start = System.nanoTime();
+        for (DataOutputStream out : outputs) {
+            out.writeByte(ShardWorker.TICK);
+            out.flush();
+        }
+        long slowest = collect();
+        tick++;
+        long elapsed = System.nanoTime() - start;
+        tickLatency.record(elapsed);
+        overhead.record(elapsed - slowest);
+    }
+
+    public void run(int ticks) throws IOException {
+        for (int i = 0; i < ticks; i++) {
+            move();
+        }
+    }
+
+    public Horse getWinner() throws IOException {
+        checkOpen();
+        int index = top[0];
+        int shard = shardOf(index);
+        outputs[shard].writeByte(ShardWorker.HORSE);
+        outputs[shard].writeInt(index);
+        outputs[shard].flush();
+        DataInputStream in = inputs[shard];
+        return new Horse(in.readUTF(), in.readDouble(), in.readDouble());
+    }
+
+    public int getWinnerIndex() {
+        return top[0];
+    }
+
+    public int getTopK(int[] indexes, double[] distances) {
+        int count = Math.min(topCount, Math.min(indexes.length, distances.length));
+        System.arraycopy(top, 0, indexes, 0, count);
+        System.arraycopy(topDistances, 0, distances, 0, count);
+        return count;
+    }
+
+    public LatencyHistogram getTickLatency() {
+        return tickLatency;
+    }
+
+    public LatencyHistogram getCoordinationOverhead() {
+        return overhead;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        for (int i = 0; i < processes.length; i++) {
+            if (outputs[i] != null) {
+                try {
+                    outputs[i].writeByte(ShardWorker.CLOSE);
+                    outputs[i].flush();
+                } catch (IOException e) {
+                    logger.debug("Шард {} уже закрыт: {}", i, e.toString());
+                }
+            }
+        }
+        for (int i = 0; i < processes.length; i++) {
+            if (processes[i] == null) {
+                continue;
+            }
+            try {
+                if (!processes[i].waitFor(5, TimeUnit.SECONDS)) {
+                    processes[i].destroyForcibly();
+                }
+            } catch (InterruptedException e) {
+                processes[i].destroyForcibly();
+                Thread.currentThread().interrupt();
+            }
+            if (channels[i] != null) {
+                channels[i].close();
+            }
+        }
+        Files.deleteIfExists(socket);
+        Files.deleteIfExists(socket.getParent());
+        logger.debug("Закрытие ShardCoordinator, тиков {}, накладные расходы p50 {} нс, p99 {} нс",
+                tick, overhead.getPercentile(50), overhead.getPercentile(99));
+    }
+
+    List<Process> processes() {
+        return List.of(processes);
+    }
+
+    static long[] shardSeeds(long seed, int shards) {
+        SplittableRandom random = new SplittableRandom(seed);
+        long[] seeds = new long[shards];
+        for (int i = 0; i < shards; i++) {
+            seeds[i] = random.nextLong();
+        }
+        return seeds;
+    }
+
+    static int shardStart(int size, int shards, int shard) {
+        return (int) ((long) size * shard / shards);
+    }
+
+    private Process spawn(int shard) throws IOException {
+        String java = ProcessHandle.current().info().command()
+                .orElse(System.getProperty("java.home") + File.separator + "bin" + File.separator + "java");
+        List<String> command = new ArrayList<>();
+        command.add(java);
+        if (ModuleLayer.boot().findModule(VECTOR_MODULE).isPresent()) {
+            command.add("--add-modules");
+            command.add(VECTOR_MODULE);
+        }
+        command.add("-cp");
+        command.add(System.getProperty("java.class.path"));
+        command.add(ShardWorker.class.getName());
+        command.add(socket.toString());
+        command.add(Integer.toString(shard));
+        return new ProcessBuilder(command).redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                .redirectError(ProcessBuilder.Redirect.INHERIT).start();
+    }
+
+    private void accept(ServerSocketChannel server) throws IOException {
+        server.configureBlocking(false);
+        long deadline = System.nanoTime() + CONNECT_TIMEOUT.toNanos();
+        int connected = 0;
+        while (connected < processes.length) {
+            SocketChannel channel = server.accept();
+            if (channel == null) {
+                for (int i = 0; i < processes.length; i++) {
+                    if (channels[i] == null && !processes[i].isAlive()) {
+                        logger.error("ShardCoordinator: worker {} exited with code {}", i, processes[i].exitValue());
+                        throw new IOException("Worker " + i + " exited with code " + processes[i].exitValue() + ".");
+                    }
+                }
+                if (System.nanoTime() > deadline) {
+                    logger.error("ShardCoordinator: workers did not connect in time");
+                    throw new IOException("Workers did not connect in time.");
+                }
+                try {
+                    Thread.sleep(5);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IOException("Interrupted while waiting for workers.");
+                }
+                continue;
+            }
+            channel.configureBlocking(true);
+            DataInputStream in = new DataInputStream(new BufferedInputStream(Channels.newInputStream(channel), 1 << 16));
+            int shard = in.readInt();
+            if (shard < 0 || shard >= processes.length || channels[shard] != null) {
+                channel.close();
+                throw new IOException("Unexpected worker " + shard + ".");
+            }
+            channels[shard] = channel;
+            inputs[shard] = in;
+            outputs[shard] = new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(channel), 1 << 16));
+            connected++;
+        }
+    }
+
+    private void checkOpen() {
+        if (closed) {
+            throw new IllegalStateException("Coordinator is closed.");
+        }
+    }
+
+    private void sendPartition(int shard, long seed) throws IOException {
+        int shards = processes.length;
+        DataOutputStream out = outputs[shard];
+        out.writeUTF(file.toString());
+        out.writeInt(shardStart(size, shards, shard));
+        out.writeInt(shardStart(size, shards, shard + 1));
+        out.writeInt(topK);
+        out.writeLong(seed);
+        out.flush();
+    }
+
+    private long collect() throws IOException {
+        long slowest = 0;
+        int count = 0;
+        for (DataInputStream in : inputs) {
+            slowest = Math.max(slowest, in.readLong());
+            int shardCount = in.readInt();
+            for (int i = 0; i < shardCount; i++) {
+                candidates[count] = in.readInt();
+                candidateDistances[count] = in.readDouble();
+                count++;
+            }
+        }
+        merge(count);
+        return slowest;
+    }
+
+    private int shardOf(int index) {
+        int shard = 0;
+        while (shardStart(size, processes.length, shard + 1) <= index) {
+            shard++;
+        }
+        return shard;
+    }
+
+    private void merge(int count) {
+        int k = top.length;
+        int size = 0;
+        for (int c = 0; c < count; c++) {
+            int index = candidates[c];
+            double distance = candidateDistances[c];
+            if (size == k) {
+                if (!ahead(distance, index, topDistances[k - 1], top[k - 1])) {
+                    continue;
+                }
+                size--;
+            }
+            int j = size++;
+            while (j > 0 && ahead(distance, index, topDistances[j - 1], top[j - 1])) {
+                top[j] = top[j - 1];
+                topDistances[j] = topDistances[j - 1];
+                j--;
+            }
+            top[j] = index;
+            topDistances[j] = distance;
+        }
+        topCount = size;
+    }
+
+    private static boolean ahead(double distance, int index, double otherDistance, int otherIndex) {
+        return distance > otherDistance || (distance == otherDistance && index < otherIndex);
+    }
+}
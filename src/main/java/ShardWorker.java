@@ -0,0 +1,92 @@
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.Channels;
+import java.nio.channels.SocketChannel;
+import java.nio.file.Path;
+
+public class ShardWorker {
+
+    static final byte TICK = 1;
+    static final byte CLOSE = 2;
+    static final byte HORSE = 3;
+
+    private final DataInputStream in;
+    private final DataOutputStream out;
+    private final int shard;
+    private static final Logger logger = LogManager.getLogger(ShardWorker.class);
+
+    ShardWorker(DataInputStream in, DataOutputStream out, int shard) {
+        this.in = in;
+        this.out = out;
+        this.shard = shard;
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            logger.error("ShardWorker: expected socket path and shard index");
+            throw new IllegalArgumentException("Usage: ShardWorker <socket> <shard>");
+        }
+        int shard = Integer.parseInt(args[1]);
+        try (SocketChannel channel = SocketChannel.open(StandardProtocolFamily.UNIX)) {
+            channel.connect(UnixDomainSocketAddress.of(Path.of(args[0])));
+            DataInputStream in = new DataInputStream(new BufferedInputStream(Channels.newInputStream(channel), 1 << 16));
+            DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(channel), 1 << 16));
+            out.writeInt(shard);
+            out.flush();
+            new ShardWorker(in, out, shard).run();
+        }
+    }
+
+    void run() throws IOException {
+        Path file = Path.of(in.readUTF());
+        int offset = in.readInt();
+        int to = in.readInt();
+        int topK = in.readInt();
+        long seed = in.readLong();
+        RaceField field = FieldLoader.readBinary(file, offset, to);
+        Hippodrome hippodrome = Hippodrome.of(field);
+        BulkMover mover = new BulkMover(seed);
+        int[] top = new int[Math.min(topK, field.size())];
+        logger.debug("Запуск ShardWorker {}, смещение {}, лошадей {}, векторное ядро {}",
+                shard, offset, field.size(), mover.isVectorized());
+        report(hippodrome, top, offset, System.nanoTime());
+
+        for (byte command = in.readByte(); command != CLOSE; command = in.readByte()) {
+            if (command == TICK) {
+                long start = System.nanoTime();
+                hippodrome.move(mover);
+                report(hippodrome, top, offset, start);
+            } else if (command == HORSE) {
+                int index = in.readInt() - offset;
+                out.writeUTF(field.getName(index));
+                out.writeDouble(field.getSpeed(index));
+                out.writeDouble(field.getDistance(index));
+                out.flush();
+            } else {
+                logger.error("ShardWorker: unknown command {}", command);
+                throw new IOException("Unknown command " + command + ".");
+            }
+        }
+        logger.debug("Остановка ShardWorker {}, тиков {}", shard, hippodrome.getTick());
+    }
+
+    private void report(Hippodrome hippodrome, int[] top, int offset, long start) throws IOException {
+        int count = hippodrome.getLeaderboard().getTopK(top.length, top);
+        RaceField field = hippodrome.getField();
+        out.writeLong(System.nanoTime() - start);
+        out.writeInt(count);
+        for (int i = 0; i < count; i++) {
+            out.writeInt(offset + top[i]);
+            out.writeDouble(field.getDistance(top[i]));
+        }
+        out.flush();
+    }
+}
@@ -0,0 +1,128 @@
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.lang.invoke.VarHandle;
+import java.time.Duration;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+import static java.util.Objects.isNull;
+
+public class SnapshotBuffer {
+
+    private final Slot[] slots = {new Slot(), new Slot()};
+    private volatile Slot front;
+    private volatile long tick = -1;
+    private final ConcurrentLinkedQueue<Thread> waiters = new ConcurrentLinkedQueue<>();
+    private static final Logger logger = LogManager.getLogger(SnapshotBuffer.class);
+
+    SnapshotBuffer() {
+        logger.debug("Создание SnapshotBuffer");
+    }
+
+    void publish(long tick, int leader, int size, String[] names, double[] speeds, double[] distances) {
+        Slot back = front == slots[0] ? slots[1] : slots[0];
+        long stamp = back.stamp.getPlain() + 1;
+        back.stamp.setRelease(stamp);
+        VarHandle.storeStoreFence();
+        if (back.distances.length < size) {
+            back.distances = new double[size];
+        }
+        System.arraycopy(distances, 0, back.distances, 0, size);
+        back.tick = tick;
+        back.leader = leader;
+        back.size = size;
+        back.names = names;
+        back.speeds = speeds;
+        back.stamp.setRelease(stamp + 1);
+        front = back;
+        this.tick = tick;
+        if (!waiters.isEmpty()) {
+            for (Thread waiter : waiters) {
+                LockSupport.unpark(waiter);
+            }
+        }
+    }
+
+    public long getTick() {
+        return tick;
+    }
+
+    public RaceSnapshot snapshot() {
+        while (true) {
+            Slot slot = front;
+            if (isNull(slot)) {
+                throw new IllegalStateException("No snapshot has been published.");
+            }
+            long stamp = slot.stamp.getAcquire();
+            if ((stamp & 1) != 0) {
+                Thread.onSpinWait();
+                continue;
+            }
+            int size = slot.size;
+            double[] source = slot.distances;
+            if (source.length < size) {
+                continue;
+            }
+            double[] distances = new double[size];
+            System.arraycopy(source, 0, distances, 0, size);
+            long tick = slot.tick;
+            int leader = slot.leader;
+            String[] names = slot.names;
+            double[] speeds = slot.speeds;
+            VarHandle.loadLoadFence();
+            if (slot.stamp.getAcquire() == stamp) {
+                return new RaceSnapshot(tick, leader, size, names, speeds, distances);
+            }
+        }
+    }
+
+    public RaceSnapshot awaitTick(long after) throws InterruptedException {
+        try {
+            return awaitTick(after, null);
+        } catch (TimeoutException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public RaceSnapshot awaitTick(long after, Duration timeout) throws InterruptedException, TimeoutException {
+        if (tick > after) {
+            return snapshot();
+        }
+        long deadline = isNull(timeout) ? 0 : System.nanoTime() + timeout.toNanos();
+        Thread current = Thread.currentThread();
+        waiters.add(current);
+        try {
+            while (tick <= after) {
+                if (Thread.interrupted()) {
+                    throw new InterruptedException();
+                }
+                if (isNull(timeout)) {
+                    LockSupport.park(this);
+                } else {
+                    long remaining = deadline - System.nanoTime();
+                    if (remaining <= 0) {
+                        throw new TimeoutException("Tick " + (after + 1) + " was not published in time.");
+                    }
+                    LockSupport.parkNanos(this, remaining);
+                }
+            }
+        } finally {
+            waiters.remove(current);
+        }
+        return snapshot();
+    }
+
+    private static class Slot {
+
+        private final AtomicLong stamp = new AtomicLong();
+        private long tick;
+        private int leader;
+        private int size;
+        private String[] names;
+        private double[] speeds;
+        private double[] distances = new double[0];
+    }
+}
@@ -0,0 +1,194 @@
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import static java.util.Objects.isNull;
+
+public class TerminalRenderer {
+
+    private static final char ESC = '\033';
+
+    private final WritableByteChannel out;
+    private final int rows;
+    private final int width;
+    private final long frameNanos;
+    private final char[] cells;
+    private final char[] previous;
+    private final int[] top;
+    private final String[] rowNames;
+    private final double[] rowDistances;
+    private final CharBuffer chars;
+    private final ByteBuffer bytes;
+    private final CharsetEncoder encoder = StandardCharsets.UTF_8.newEncoder();
+    private long lastFrame;
+    private boolean cleared;
+    private int drawnRows;
+    private static final Logger logger = LogManager.getLogger(TerminalRenderer.class);
+
+    public TerminalRenderer(WritableByteChannel out, int rows, int width, int maxFps) {
+        if (isNull(out)) {
+            logger.error("TerminalRenderer: output is null");
+            throw new IllegalArgumentException("Output cannot be null.");
+        }
+        if (rows <= 0) {
+            logger.error("TerminalRenderer: rows is not positive");
+            throw new IllegalArgumentException("Rows must be positive.");
+        }
+        if (width <= 0) {
+            logger.error("TerminalRenderer: width is not positive");
+            throw new IllegalArgumentException("Width must be positive.");
+        }
+        if (maxFps < 0) {
+            logger.error("TerminalRenderer: fps is negative");
+            throw new IllegalArgumentException("FPS cannot be negative.");
+        }
+
+        this.out = out;
+        this.rows = rows;
+        this.width = width;
+        this.frameNanos = maxFps == 0 ? 0 : 1_000_000_000L / maxFps;
+        this.cells = new char[rows * width];
+        this.previous = new char[rows * width];
+        this.top = new int[rows];
+        this.rowNames = new String[rows];
+        this.rowDistances = new double[rows];
+        this.chars = CharBuffer.allocate(rows * (width + 24) + 32);
+        this.bytes = ByteBuffer.allocate((int) (chars.capacity() * encoder.maxBytesPerChar()));
+        logger.debug("Создание TerminalRenderer, строк {}, ширина {}, fps {}", rows, width, maxFps);
+    }
+
+    public boolean render(Hippodrome hippodrome) throws IOException {
+        if (!due()) {
+            return false;
+        }
+        Leaderboard leaderboard = hippodrome.getLeaderboard();
+        int visible = Math.min(rows, leaderboard.size());
+        for (int row = 0; row < visible; row++) {
+            int index = leaderboard.getIndex(row + 1);
+            rowNames[row] = hippodrome.getName(index);
+            rowDistances[row] = hippodrome.getDistance(index);
+        }
+        draw(visible);
+        return true;
+    }
+
+    public boolean render(RaceSnapshot snapshot) throws IOException {
+        if (!due()) {
+            return false;
+        }
+        int visible = snapshot.getTopK(rows, top);
+        for (int row = 0; row < visible; row++) {
+            rowNames[row] = snapshot.getName(top[row]);
+            rowDistances[row] = snapshot.getDistance(top[row]);
+        }
+        draw(visible);
+        return true;
+    }
+
+    private boolean due() {
+        long now = System.nanoTime();
+        if (cleared && now - lastFrame < frameNanos) {
+            return false;
+        }
+        lastFrame = now;
+        return true;
+    }
+
+    private void draw(int visible) throws IOException {
+        int longestName = 0;
+        for (int row = 0; row < visible; row++) {
+            longestName = Math.max(longestName, rowNames[row].length());
+        }
+        double track = Math.max(width - longestName, 0);
+        double leaderDistance = visible > 0 ? rowDistances[0] : 0;
+        double scale = leaderDistance > track ? track / leaderDistance : 1;
+        for (int row = 0; row < visible; row++) {
+            fillRow(row, rowNames[row], rowDistances[row] * scale);
+        }
+        Arrays.fill(cells, visible * width, cells.length, ' ');
+
+        chars.clear();
+        if (!cleared) {
+            chars.put(ESC).put("[2J");
+            Arrays.fill(previous, '\0');
+            cleared = true;
+        }
+        for (int row = 0; row < rows; row++) {
+            diffRow(row);
+        }
+        drawnRows = visible;
+        moveCursor(rows + 1, 1);
+        flush();
+    }
+
+    public void finish() throws IOException {
+        chars.clear();
+        moveCursor(Math.max(drawnRows, 1) + 1, 1);
+        flush();
+    }
+
+    private void fillRow(int row, String name, double distance) {
+        int start = row * width;
+        int nameLength = Math.min(name.length(), width);
+        int dots = (int) Math.min(Math.max(distance, 0), width - nameLength);
+        Arrays.fill(cells, start, start + dots, '.');
+        name.getChars(0, nameLength, cells, start + dots);
+        Arrays.fill(cells, start + dots + nameLength, start + width, ' ');
+    }
+
+    private void diffRow(int row) {
+        int start = row * width;
+        int end = start + width;
+        int first = start;
+        while (first < end && cells[first] == previous[first]) {
+            first++;
+        }
+        if (first == end) {
+            return;
+        }
+        int last = end - 1;
+        while (cells[last] == previous[last]) {
+            last--;
+        }
+        moveCursor(row + 1, first - start + 1);
+        chars.put(cells, first, last - first + 1);
+        System.arraycopy(cells, first, previous, first, last - first + 1);
+    }
+
+    private void moveCursor(int row, int column) {
+        chars.put(ESC).put('[');
+        putInt(row);
+        chars.put(';');
+        putInt(column);
+        chars.put('H');
+    }
+
+    private void putInt(int value) {
+        int divisor = 1;
+        while (divisor <= value / 10) {
+            divisor *= 10;
+        }
+        for (; divisor > 0; divisor /= 10) {
+            chars.put((char) ('0' + value / divisor % 10));
+        }
+    }
+
+    private void flush() throws IOException {
+        chars.flip();
+        bytes.clear();
+        encoder.reset();
+        encoder.encode(chars, bytes, true);
+        encoder.flush(bytes);
+        bytes.flip();
+        while (bytes.hasRemaining()) {
+            out.write(bytes);
+        }
+    }
+}
@@ -0,0 +1,385 @@
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.util.Objects.isNull;
+
+public class Tournament implements AutoCloseable {
+
+    private final List<Horse> entrants;
+    private final String[] names;
+    private final double[] speeds;
+    private final int advancers;
+    private final int ticks;
+    private final int[][] heatStarts;
+    private final int[][] qualifierStarts;
+    private final ExecutorService executor;
+    private final ThreadLocal<BulkMover> movers = ThreadLocal.withInitial(() -> new BulkMover(0));
+    private volatile boolean closed;
+    private static final Logger logger = LogManager.getLogger(Tournament.class);
+
+    public Tournament(List<Horse> entrants, int heatSize, int advancers, int rounds, int ticks) {
+        this(Runtime.getRuntime().availableProcessors(), entrants, heatSize, advancers, rounds, ticks);
+    }
+
+    public Tournament(int threads, List<Horse> entrants, int heatSize, int advancers, int rounds, int ticks) {
+        if (threads <= 0) {
+            logger.error("Tournament: threads is not positive");
+            throw new IllegalArgumentException("Threads must be positive.");
+        }
+        if (isNull(entrants)) {
+            logger.error("Tournament: entrants list is null");
+            throw new IllegalArgumentException("Horses cannot be null.");
+        } else if (entrants.isEmpty()) {
+            logger.error("Tournament: entrants list is empty");
+            throw new IllegalArgumentException("Horses cannot be empty.");
+        }
+        if (heatSize < 2) {
+            logger.error("Tournament: heat size is less than 2");
+            throw new IllegalArgumentException("Heat size must be at least 2.");
+        }
+        if (advancers <= 0 || advancers >= heatSize) {
+            logger.error("Tournament: advancers is out of range");
+            throw new IllegalArgumentException("Advancers must be positive and less than heat size.");
+        }
+        if (rounds <= 0) {
+            logger.error("Tournament: rounds is not positive");
+            throw new IllegalArgumentException("Rounds must be positive.");
+        }
+        if (ticks <= 0) {
+            logger.error("Tournament: ticks is not positive");
+            throw new IllegalArgumentException("Ticks must be positive.");
+        }
+
+        this.heatStarts = new int[rounds][];
+        this.qualifierStarts = new int[rounds][];
+        int size = entrants.size();
+        for (int round = 0; round < rounds; round++) {
+            int heats = (size + heatSize - 1) / heatSize;
+            if ((heats == 1) != (round == rounds - 1)) {
+                logger.error("Tournament: {} entrants do not reach a single final in {} rounds", entrants.size(), rounds);
+                throw new IllegalArgumentException("Bracket must end with a single final heat in the last round.");
+            }
+            int[] starts = new int[heats + 1];
+            int[] qualifiers = new int[heats + 1];
+            for (int heat = 1; heat <= heats; heat++) {
+                starts[heat] = (int) ((long) heat * size / heats);
+                qualifiers[heat] = qualifiers[heat - 1] + Math.min(advancers, starts[heat] - starts[heat - 1]);
+            }
+            heatStarts[round] = starts;
+            qualifierStarts[round] = qualifiers;
+            size = qualifiers[heats];
+        }
+
+        RaceField field = RaceField.of(entrants);
+        this.entrants = List.copyOf(entrants);
+        this.names = field.names();
+        this.speeds = field.speeds();
+        this.advancers = advancers;
+        this.ticks = ticks;
+        AtomicInteger counter = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "tournament-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        logger.debug("Создание Tournament, участников {}, раундов {}, размер забега {}, проходят {}",
+                entrants.size(), rounds, heatSize, advancers);
+    }
+
+    public int getRounds() {
+        return heatStarts.length;
+    }
+
+    public int getHeats(int round) {
+        return heatStarts[round].length - 1;
+    }
+
+    public int getAdvancers() {
+        return advancers;
+    }
+
+    public Result run(long seed) {
+        if (closed) {
+            throw new RejectedExecutionException("Tournament is closed.");
+        }
+
+        int rounds = heatStarts.length;
+        SplittableRandom random = new SplittableRandom(seed);
+        int[][] lineups = new int[rounds][];
+        lineups[0] = new int[entrants.size()];
+        Arrays.setAll(lineups[0], i -> i);
+        for (int round = 1; round < rounds; round++) {
+            lineups[round] = new int[qualifierStarts[round - 1][getHeats(round - 1)]];
+        }
+
+        long start = System.nanoTime();
+        List<List<CompletableFuture<Heat>>> futures = new ArrayList<>(rounds);
+        for (int round = 0; round < rounds; round++) {
+            List<CompletableFuture<Heat>> heats = new ArrayList<>(getHeats(round));
+            for (int heat = 0; heat < getHeats(round); heat++) {
+                CompletableFuture<?> ready;
+                if (round == 0) {
+                    ready = CompletableFuture.completedFuture(null);
+                } else {
+                    List<CompletableFuture<Heat>> previous = futures.get(round - 1);
+                    ready = CompletableFuture.allOf(Arrays.stream(feeders(round, heat))
+                            .mapToObj(previous::get).toArray(CompletableFuture[]::new));
+                }
+                int r = round;
+                int h = heat;
+                long heatSeed = random.nextLong();
+                int[] next = round + 1 < rounds ? lineups[round + 1] : null;
+                heats.add(ready.thenApplyAsync(ignored -> runHeat(r, h, heatSeed, lineups[r], next, start), executor));
+            }
+            futures.add(heats);
+        }
+
+        List<Round> results = new ArrayList<>(rounds);
+        try {
+            for (int round = 0; round < rounds; round++) {
+                List<Heat> heats = new ArrayList<>(getHeats(round));
+                for (CompletableFuture<Heat> future : futures.get(round)) {
+                    heats.add(future.join());
+                }
+                results.add(new Round(round, heats));
+            }
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+        Result result = new Result(results, Duration.ofNanos(System.nanoTime() - start));
+        for (Round round : results) {
+            logger.info("Раунд {}: забегов {}, участников {}, старт {} мс, длительность {} мс, работа {} мс",
+                    round.getIndex() + 1, round.getHeats().size(), round.getEntrants(),
+                    round.getStart().toMillis(), round.getElapsed().toMillis(), round.getBusy().toMillis());
+        }
+        logger.info("Турнир завершён за {} мс, победитель {}", result.getElapsed().toMillis(),
+                result.getChampion().getName());
+        return result;
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(1, TimeUnit.MINUTES)) {
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    int[] feeders(int round, int heat) {
+        int from = heatStarts[round][heat];
+        int to = heatStarts[round][heat + 1];
+        int[] qualifiers = qualifierStarts[round - 1];
+        int first = 0;
+        while (qualifiers[first + 1] <= from) {
+            first++;
+        }
+        int last = first;
+        while (last + 1 < qualifiers.length - 1 && qualifiers[last + 1] < to) {
+            last++;
+        }
+        int[] feeders = new int[last - first + 1];
+        for (int i = 0; i < feeders.length; i++) {
+            feeders[i] = first + i;
+        }
+        return feeders;
+    }
+
+    private Heat runHeat(int round, int heat, long seed, int[] lineup, int[] next, long tournamentStart) {
+        long begin = System.nanoTime();
+        int from = heatStarts[round][heat];
+        int size = heatStarts[round][heat + 1] - from;
+        String[] heatNames = new String[size];
+        double[] heatSpeeds = new double[size];
+        for (int i = 0; i < size; i++) {
+            int entrant = lineup[from + i];
+            heatNames[i] = names[entrant];
+            heatSpeeds[i] = speeds[entrant];
+        }
+        RaceField field = RaceField.wrap(heatNames, heatSpeeds, new double[size], size);
+        BulkMover mover = movers.get();
+        mover.reseed(seed);
+        for (int tick = 0; tick < ticks; tick++) {
+            mover.move(field);
+        }
+
+        int[] order = field.rank(new int[size]);
+        int[] finish = new int[size];
+        for (int i = 0; i < size; i++) {
+            finish[i] = lineup[from + order[i]];
+        }
+        int qualifiers = qualifierStarts[round][heat + 1] - qualifierStarts[round][heat];
+        if (next != null) {
+            System.arraycopy(finish, 0, next, qualifierStarts[round][heat], qualifiers);
+        }
+        long end = System.nanoTime();
+        logger.debug("Забег {}.{} завершён, участников {}, победитель {}", round + 1, heat + 1, size,
+                names[finish[0]]);
+        return new Heat(round, heat, finish, qualifiers, begin - tournamentStart, end - tournamentStart);
+    }
+
+    public class Heat {
+
+        private final int round;
+        private final int index;
+        private final int[] finish;
+        private final int qualifiers;
+        private final long startNanos;
+        private final long endNanos;
+
+        Heat(int round, int index, int[] finish, int qualifiers, long startNanos, long endNanos) {
+            this.round = round;
+            this.index = index;
+            this.finish = finish;
+            this.qualifiers = qualifiers;
+            this.startNanos = startNanos;
+            this.endNanos = endNanos;
+        }
+
+        public int getRound() {
+            return round;
+        }
+
+        public int getIndex() {
+            return index;
+        }
+
+        public int getEntrants() {
+            return finish.length;
+        }
+
+        public Horse getWinner() {
+            return entrants.get(finish[0]);
+        }
+
+        public List<Horse> getFinishOrder() {
+            List<Horse> horses = new ArrayList<>(finish.length);
+            for (int entrant : finish) {
+                horses.add(entrants.get(entrant));
+            }
+            return Collections.unmodifiableList(horses);
+        }
+
+        public List<Horse> getQualifiers() {
+            return getFinishOrder().subList(0, qualifiers);
+        }
+
+        public Duration getStart() {
+            return Duration.ofNanos(startNanos);
+        }
+
+        public Duration getEnd() {
+            return Duration.ofNanos(endNanos);
+        }
+
+        public Duration getElapsed() {
+            return Duration.ofNanos(endNanos - startNanos);
+        }
+    }
+
+    public static class Round {
+
+        private final int index;
+        private final List<Heat> heats;
+        private final int entrants;
+        private final long startNanos;
+        private final long endNanos;
+        private final long busyNanos;
+
+        Round(int index, List<Heat> heats) {
+            this.index = index;
+            this.heats = Collections.unmodifiableList(heats);
+            int entrants = 0;
+            long start = Long.MAX_VALUE;
+            long end = 0;
+            long busy = 0;
+            for (Heat heat : heats) {
+                entrants += heat.getEntrants();
+                start = Math.min(start, heat.startNanos);
+                end = Math.max(end, heat.endNanos);
+                busy += heat.endNanos - heat.startNanos;
+            }
+            this.entrants = entrants;
+            this.startNanos = start;
+            this.endNanos = end;
+            this.busyNanos = busy;
+        }
+
+        public int getIndex() {
+            return index;
+        }
+
+        public List<Heat> getHeats() {
+            return heats;
+        }
+
+        public int getEntrants() {
+            return entrants;
+        }
+
+        public Duration getStart() {
+            return Duration.ofNanos(startNanos);
+        }
+
+        public Duration getEnd() {
+            return Duration.ofNanos(endNanos);
+        }
+
+        public Duration getElapsed() {
+            return Duration.ofNanos(endNanos - startNanos);
+        }
+
+        public Duration getBusy() {
+            return Duration.ofNanos(busyNanos);
+        }
+    }
+
+    public static class Result {
+
+        private final List<Round> rounds;
+        private final Duration elapsed;
+
+        Result(List<Round> rounds, Duration elapsed) {
+            this.rounds = Collections.unmodifiableList(rounds);
+            this.elapsed = elapsed;
+        }
+
+        public Horse getChampion() {
+            return getFinal().getWinner();
+        }
+
+        public Heat getFinal() {
+            return rounds.get(rounds.size() - 1).getHeats().get(0);
+        }
+
+        public List<Round> getRounds() {
+            return rounds;
+        }
+
+        public Duration getElapsed() {
+            return elapsed;
+        }
+    }
+}
@@ -0,0 +1,52 @@
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorShape;
+import jdk.incubator.vector.VectorSpecies;
+
+class VectorMoveKernel extends MoveKernel {
+
+    private static final VectorSpecies<Double> DOUBLES = DoubleVector.SPECIES_PREFERRED.length() <= LANES
+            ? DoubleVector.SPECIES_PREFERRED
+            : VectorSpecies.of(double.class, VectorShape.forBitSize(LANES * Double.SIZE));
+    private static final VectorSpecies<Long> LONGS = VectorSpecies.of(long.class, DOUBLES.vectorShape());
+    private static final int WIDTH = DOUBLES.length();
+
+    VectorMoveKernel(long seed) {
+        super(seed);
+    }
+
+    @Override
+    void move(double[] speeds, double[] distances, int from, int to) {
+        int upper = from + (to - from) / LANES * LANES;
+        long[] state0 = this.state0;
+        long[] state1 = this.state1;
+        for (int i = from; i < upper; i += WIDTH) {
+            int lane = (i - from) & (LANES - 1);
+            LongVector x = LongVector.fromArray(LONGS, state0, lane);
+            LongVector y = LongVector.fromArray(LONGS, state1, lane);
+            LongVector shifted = x.lanewise(VectorOperators.XOR, x.lanewise(VectorOperators.LSHL, 23));
+            LongVector next = shifted.lanewise(VectorOperators.XOR, y)
+                    .lanewise(VectorOperators.XOR, shifted.lanewise(VectorOperators.LSHR, 17))
+                    .lanewise(VectorOperators.XOR, y.lanewise(VectorOperators.LSHR, 26));
+            DoubleVector unit = next.add(y)
+                    .lanewise(VectorOperators.LSHR, 12)
+                    .lanewise(VectorOperators.OR, ONE_BITS)
+                    .reinterpretAsDoubles();
+            y.intoArray(state0, lane);
+            next.intoArray(state1, lane);
+            DoubleVector factor = unit.mul(SCALE).add(OFFSET);
+            DoubleVector distance = DoubleVector.fromArray(DOUBLES, distances, i);
+            DoubleVector speed = DoubleVector.fromArray(DOUBLES, speeds, i);
+            distance.add(speed.mul(factor)).intoArray(distances, i);
+        }
+        if (upper < to) {
+            moveBlock(speeds, distances, upper, to - upper);
+        }
+    }
+
+    @Override
+    boolean isVectorized() {
+        return true;
+    }
+}
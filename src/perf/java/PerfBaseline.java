@@ -0,0 +1,162 @@
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+
+import static java.util.Objects.isNull;
+
+class PerfBaseline {
+
+    static final String RESOURCE = "perf-baseline.properties";
+    static final String CALIBRATION = "calibration.referenceNanos";
+    private static final int CALIBRATION_SIZE = 1024;
+    private static final int CALIBRATION_REPEATS = 2_000;
+    private static final int CALIBRATION_TRIALS = 15;
+
+    enum Metric {
+        BYTES_PER_TICK("bytesPerTick"),
+        TICK_COST("tickCost"),
+        WINNER_COST("winnerCost");
+
+        private final String key;
+
+        Metric(String key) {
+            this.key = key;
+        }
+
+        String getKey() {
+            return key;
+        }
+    }
+
+    enum Status {
+        OK, REGRESSION, NEW
+    }
+
+    private final Properties values;
+
+    PerfBaseline(Properties values) {
+        this.values = values;
+    }
+
+    static PerfBaseline load() throws IOException {
+        Properties values = new Properties();
+        String file = System.getProperty("perf.baseline");
+        if (isNull(file)) {
+            try (InputStream in = PerfBaseline.class.getClassLoader().getResourceAsStream(RESOURCE)) {
+                if (isNull(in)) {
+                    throw new IOException("Baseline " + RESOURCE + " is not on the classpath.");
+                }
+                values.load(in);
+            }
+        } else {
+            try (InputStream in = Files.newInputStream(Path.of(file))) {
+                values.load(in);
+            }
+        }
+        return new PerfBaseline(values);
+    }
+
+    Check check(String scenario, Metric metric, double measured) {
+        String baseline = values.getProperty(scenario + "." + metric.getKey());
+        if (isNull(baseline)) {
+            return new Check(scenario, metric, Double.NaN, Double.NaN, measured, Status.NEW);
+        }
+        double expected = Double.parseDouble(baseline);
+        double tolerance = Double.parseDouble(values.getProperty("tolerance." + metric.getKey(), "0"));
+        double slack = Double.parseDouble(values.getProperty("slack." + metric.getKey(), "0"));
+        double limit = expected * (1 + tolerance) + slack;
+        return new Check(scenario, metric, expected, limit, measured,
+                measured <= limit ? Status.OK : Status.REGRESSION);
+    }
+
+    static String table(List<Check> checks) {
+        StringBuilder table = new StringBuilder();
+        String format = "%-16s %-16s %14s %14s %14s  %s%n";
+        table.append(String.format(Locale.ROOT, format, "scenario", "metric", "baseline", "limit", "measured", "status"));
+        for (Check check : checks) {
+            table.append(String.format(Locale.ROOT, format, check.scenario, check.metric.getKey(),
+                    number(check.baseline), number(check.limit), number(check.measured), check.status));
+        }
+        return table.toString();
+    }
+
+    static double calibrate() {
+        double[] speeds = new double[CALIBRATION_SIZE];
+        double[] distances = new double[CALIBRATION_SIZE];
+        for (int i = 0; i < CALIBRATION_SIZE; i++) {
+            speeds[i] = 2.4 + (i % 7) / 10.0;
+        }
+        long x = 0x9E3779B97F4A7C15L;
+        long best = Long.MAX_VALUE;
+        for (int trial = 0; trial < CALIBRATION_TRIALS; trial++) {
+            long start = System.nanoTime();
+            for (int repeat = 0; repeat < CALIBRATION_REPEATS; repeat++) {
+                for (int i = 0; i < CALIBRATION_SIZE; i++) {
+                    x ^= x << 13;
+                    x ^= x >>> 7;
+                    x ^= x << 17;
+                    distances[i] += speeds[i] * (0.2 + 0.7 * ((x >>> 11) * 0x1p-53));
+                }
+            }
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        if (!(distances[0] > 0)) {
+            throw new IllegalStateException("Calibration loop was not executed.");
+        }
+        return (double) best / ((long) CALIBRATION_REPEATS * CALIBRATION_SIZE);
+    }
+
+    static void write(Path file, double referenceNanos, List<Check> checks) throws IOException {
+        Map<String, String> measured = new TreeMap<>();
+        measured.put(CALIBRATION, String.format(Locale.ROOT, "%.3f", referenceNanos));
+        for (Check check : checks) {
+            measured.put(check.scenario + "." + check.metric.getKey(), number(check.measured));
+        }
+        Files.createDirectories(file.toAbsolutePath().getParent());
+        try (Writer out = Files.newBufferedWriter(file)) {
+            for (Map.Entry<String, String> entry : measured.entrySet()) {
+                out.write(entry.getKey() + "=" + entry.getValue() + System.lineSeparator());
+            }
+        }
+    }
+
+    private static String number(double value) {
+        return Double.isNaN(value) ? "-" : String.format(Locale.ROOT, "%.1f", value);
+    }
+
+    static class Check {
+
+        private final String scenario;
+        private final Metric metric;
+        private final double baseline;
+        private final double limit;
+        private final double measured;
+        private final Status status;
+
+        Check(String scenario, Metric metric, double baseline, double limit, double measured, Status status) {
+            this.scenario = scenario;
+            this.metric = metric;
+            this.baseline = baseline;
+            this.limit = limit;
+            this.measured = measured;
+            this.status = status;
+        }
+
+        Status getStatus() {
+            return status;
+        }
+
+        @Override
+        public String toString() {
+            return scenario + " " + metric.getKey() + ": measured " + number(measured) + ", limit " + number(limit)
+                    + ", baseline " + number(baseline);
+        }
+    }
+}
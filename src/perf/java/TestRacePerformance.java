@@ -0,0 +1,122 @@
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Класс {@code TestRacePerformance} содержит регрессионные тесты производительности для {@link Hippodrome}.
+ * Гоняет забеги без отрисовки через {@link RaceScheduler#headless(Hippodrome, int)} на полях разного размера
+ * и сравнивает замеры с эталоном {@code perf-baseline.properties} с учётом допусков.
+ * Время не сравнивается в абсолютных единицах: перед замерами на том же хосте выполняется калибровочный цикл
+ * {@link PerfBaseline#calibrate()}, и стоимость тика и {@link Hippodrome#getWinner()} выражается
+ * в числе его итераций, поэтому эталон переносим между машинами разной скорости.
+ *
+ * <p>Основные проверки:
+ * <ul>
+ *     <li>Аллокации на тик по {@link com.sun.management.ThreadMXBean} не превышают эталон.</li>
+ *     <li>Стоимость тика относительно калибровочного цикла не растёт выше допуска.</li>
+ *     <li>Стоимость {@link Hippodrome#getWinner()} после тика относительно калибровочного цикла не растёт выше допуска.</li>
+ * </ul>
+ *
+ * Пример использования:
+ * <pre>{@code
+ * mvn verify -Pperf
+ * mvn verify -Pperf -Dperf.baseline=path/to/baseline.properties
+ * }</pre>
+ */
+class TestRacePerformance {
+
+    private static final long WORK = 5_000_000;
+    private static final int WARMUP_TRIALS = 3;
+    private static final int TRIALS = 5;
+
+    private static final List<PerfBaseline.Check> checks = Collections.synchronizedList(new ArrayList<>());
+    private static com.sun.management.ThreadMXBean threads;
+    private static PerfBaseline baseline;
+    private static double referenceNanos;
+
+    @BeforeAll
+    static void setUp() throws IOException {
+        threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        baseline = PerfBaseline.load();
+        referenceNanos = PerfBaseline.calibrate();
+    }
+
+    @AfterAll
+    static void report() throws IOException {
+        System.out.printf("calibration: %.3f ns per reference iteration%n", referenceNanos);
+        System.out.print(PerfBaseline.table(checks));
+        PerfBaseline.write(Path.of(System.getProperty("perf.output", "target/perf-measured.properties")),
+                referenceNanos, checks);
+    }
+
+    static Stream<Arguments> scenarios() {
+        return Stream.of("classic", "packed")
+                .flatMap(kind -> Stream.of(7, 1_000, 100_000).map(size -> Arguments.of(kind, size)));
+    }
+
+    /** Проверка: аллокации, стоимость тика и стоимость getWinner() укладываются в эталон. */
+    @ParameterizedTest(name = "{0}-{1}")
+    @MethodSource("scenarios")
+    void raceStaysWithinBaseline(String kind, int size) throws Exception {
+        assumeTrue(threads.isThreadAllocatedMemorySupported() && threads.isThreadAllocatedMemoryEnabled());
+        List<Horse> horses = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            horses.add(new Horse("Horse" + i, 2.4 + (i % 7) / 10.0));
+        }
+        Hippodrome hippodrome = kind.equals("packed") ? Hippodrome.packed(horses) : new Hippodrome(horses);
+        int ticks = (int) Math.max(50, WORK / size);
+
+        double bytesPerTick = Double.MAX_VALUE;
+        double tickNanos = Double.MAX_VALUE;
+        double winnerNanos = Double.MAX_VALUE;
+        for (int trial = 0; trial < WARMUP_TRIALS + TRIALS; trial++) {
+            long thread = Thread.currentThread().getId();
+            long bytes = threads.getThreadAllocatedBytes(thread);
+            long start = System.nanoTime();
+            RaceScheduler.headless(hippodrome, ticks).run(null);
+            long elapsed = System.nanoTime() - start;
+            bytes = threads.getThreadAllocatedBytes(thread) - bytes;
+
+            long winner = 0;
+            int calls = Math.max(1, ticks / 10);
+            for (int i = 0; i < calls; i++) {
+                hippodrome.move();
+                long before = System.nanoTime();
+                hippodrome.getWinner();
+                winner += System.nanoTime() - before;
+            }
+
+            if (trial >= WARMUP_TRIALS) {
+                bytesPerTick = Math.min(bytesPerTick, (double) bytes / ticks);
+                tickNanos = Math.min(tickNanos, (double) elapsed / ticks);
+                winnerNanos = Math.min(winnerNanos, (double) winner / calls);
+            }
+        }
+
+        String scenario = kind + "-" + size;
+        List<PerfBaseline.Check> results = List.of(
+                baseline.check(scenario, PerfBaseline.Metric.BYTES_PER_TICK, bytesPerTick),
+                baseline.check(scenario, PerfBaseline.Metric.TICK_COST, tickNanos / referenceNanos),
+                baseline.check(scenario, PerfBaseline.Metric.WINNER_COST, winnerNanos / referenceNanos));
+        checks.addAll(results);
+        String regressions = results.stream()
+                .filter(check -> check.getStatus() == PerfBaseline.Status.REGRESSION)
+                .map(PerfBaseline.Check::toString)
+                .collect(Collectors.joining("; "));
+        assertTrue(regressions.isEmpty(), "Performance regression: " + regressions);
+    }
+}
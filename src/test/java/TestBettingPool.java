@@ -0,0 +1,271 @@
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Класс {@code TestBettingPool} содержит модульные тесты для проверки корректности работы класса {@link BettingPool}.
+ * Использует JUnit 5 для тестирования тотализатора с конкурентным приёмом ставок.
+ *
+ * <p>Основные проверки:
+ * <ul>
+ *     <li>Валидация параметров пула и ставок.</li>
+ *     <li>Коэффициенты пересчитываются после каждой ставки.</li>
+ *     <li>Ставки из нескольких потоков не теряются, закрытие приёма атомарно.</li>
+ *     <li>Расчёт выплат только после финиша забега, возврат ставок, если на победителя никто не ставил.</li>
+ * </ul>
+ *
+ * Пример использования:
+ * <pre>{@code
+ * BettingPool pool = new BettingPool(hippodrome, 0.15);
+ * BettingPool.Ticket ticket = pool.placeBet(horse, 100);
+ * pool.close();
+ * hippodrome.finish();
+ * long payout = pool.settle().getPayout(ticket);
+ * }</pre>
+ */
+class TestBettingPool {
+
+    private static Hippodrome hippodrome() {
+        return new Hippodrome(List.of(new Horse("Ace", 2.5, 3.0), new Horse("Blaze", 2.7, 9.0),
+                new Horse("Comet", 2.9, 1.0)));
+    }
+
+    /** Проверка: недопустимые параметры пула и ставок отклоняются с понятным сообщением. */
+    @Test
+    void rejectsInvalidArguments() {
+        Hippodrome hippodrome = hippodrome();
+        assertEquals("Hippodrome cannot be null.",
+                assertThrows(IllegalArgumentException.class, () -> new BettingPool(null)).getMessage());
+        assertEquals("Takeout must be between 0 and 1.",
+                assertThrows(IllegalArgumentException.class, () -> new BettingPool(hippodrome, 1)).getMessage());
+        assertEquals("Takeout must be between 0 and 1.",
+                assertThrows(IllegalArgumentException.class, () -> new BettingPool(hippodrome, -0.1)).getMessage());
+
+        BettingPool pool = new BettingPool(hippodrome);
+        assertEquals("Horse cannot be null.",
+                assertThrows(IllegalArgumentException.class, () -> pool.placeBet(null, 10)).getMessage());
+        assertEquals("Horse is not in this race.", assertThrows(IllegalArgumentException.class,
+                () -> pool.placeBet(new Horse("Stranger", 1, 0), 10)).getMessage());
+        assertEquals("Horse is not in this race.",
+                assertThrows(IllegalArgumentException.class, () -> pool.placeBet(3, 10)).getMessage());
+        assertEquals("Stake must be positive.",
+                assertThrows(IllegalArgumentException.class, () -> pool.placeBet(0, 0)).getMessage());
+        assertEquals("Betting is still open.",
+                assertThrows(IllegalStateException.class, pool::settle).getMessage());
+    }
+
+    /** Проверка: коэффициенты равны чистому пулу, делённому на ставки на лошадь. */
+    @Test
+    void oddsFollowBets() {
+        Hippodrome hippodrome = hippodrome();
+        BettingPool pool = new BettingPool(hippodrome, 0.2);
+        assertEquals(Double.POSITIVE_INFINITY, pool.getOdds(0));
+
+        pool.placeBet(hippodrome.getHorses().get(0), 100);
+        pool.placeBet(1, 300);
+        assertEquals(400, pool.getPool());
+        assertEquals(2, pool.getBetCount());
+        assertEquals(3.2, pool.getOdds(0), 1e-9);
+        assertArrayEquals(new double[]{3.2, 320.0 / 300, Double.POSITIVE_INFINITY}, pool.getOdds(), 1e-9);
+
+        pool.placeBet(0, 100);
+        assertEquals(2.0, pool.getOdds(0), 1e-9);
+    }
+
+    /** Проверка: ставки из нескольких потоков суммируются без потерь, номера билетов уникальны. */
+    @Test
+    void concurrentBetsAreExact() throws InterruptedException {
+        BettingPool pool = new BettingPool(hippodrome());
+        int threads = 8;
+        int bets = 20_000;
+        ConcurrentLinkedQueue<BettingPool.Ticket> tickets = new ConcurrentLinkedQueue<>();
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> workers = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            Thread worker = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                for (int i = 0; i < bets; i++) {
+                    tickets.add(pool.placeBet(i % 3, 1 + i % 5));
+                }
+            });
+            worker.start();
+            workers.add(worker);
+        }
+        start.countDown();
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        assertTrue(pool.close());
+
+        long[] expected = new long[3];
+        for (int i = 0; i < bets; i++) {
+            expected[i % 3] += (long) threads * (1 + i % 5);
+        }
+        for (int i = 0; i < 3; i++) {
+            assertEquals(expected[i], pool.getStake(i));
+        }
+        assertEquals(expected[0] + expected[1] + expected[2], pool.getPool());
+        assertEquals((long) threads * bets, pool.getBetCount());
+        assertEquals(tickets.size(), tickets.stream().mapToLong(BettingPool.Ticket::getId).distinct().count());
+    }
+
+    /** Проверка: ставки на объекты {@link Horse} из нескольких потоков на ипподроме со списком лошадей точны. */
+    @Test
+    void concurrentBetsByHorseAreExact() throws InterruptedException {
+        List<Horse> horses = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            horses.add(new Horse("Horse" + i, 2.0));
+        }
+        BettingPool pool = new BettingPool(new Hippodrome(horses));
+        int threads = 4;
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> workers = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            Thread worker = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                for (Horse horse : horses) {
+                    pool.placeBet(horse, 2);
+                }
+            });
+            worker.start();
+            workers.add(worker);
+        }
+        start.countDown();
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        pool.close();
+
+        for (int i = 0; i < horses.size(); i++) {
+            assertEquals(2L * threads, pool.getStake(i));
+        }
+        assertEquals(2L * threads * horses.size(), pool.getPool());
+    }
+
+    /** Проверка: закрытие во время приёма ставок атомарно — пул равен сумме выданных билетов. */
+    @Test
+    void closeIsAtomicUnderLoad() throws InterruptedException {
+        BettingPool pool = new BettingPool(hippodrome());
+        int threads = 4;
+        long[] accepted = new long[threads];
+        long[] rejected = new long[threads];
+        AtomicBoolean closed = new AtomicBoolean();
+        AtomicBoolean acceptedAfterClose = new AtomicBoolean();
+        CountDownLatch running = new CountDownLatch(threads);
+        List<Thread> workers = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            int index = t;
+            Thread worker = new Thread(() -> {
+                running.countDown();
+                for (int i = 0; ; i++) {
+                    boolean after = closed.get();
+                    try {
+                        accepted[index] += pool.placeBet(i % 3, 7).getStake();
+                        if (after) {
+                            acceptedAfterClose.set(true);
+                        }
+                    } catch (IllegalStateException e) {
+                        if (++rejected[index] == 100) {
+                            return;
+                        }
+                    }
+                }
+            });
+            worker.start();
+            workers.add(worker);
+        }
+        running.await();
+        Thread.sleep(20);
+        assertTrue(pool.close());
+        closed.set(true);
+        assertFalse(pool.close());
+        for (Thread worker : workers) {
+            worker.join();
+        }
+
+        assertFalse(acceptedAfterClose.get());
+        long total = 0;
+        for (long sum : accepted) {
+            total += sum;
+        }
+        assertEquals(BettingPool.State.CLOSED, pool.getState());
+        assertEquals(total, pool.getPool());
+        assertEquals(total / 7, pool.getBetCount());
+        assertThrows(IllegalStateException.class, () -> pool.placeBet(0, 1));
+        assertEquals(total, pool.getPool());
+    }
+
+    /** Проверка: выплата делит чистый пул между билетами на победителя пропорционально ставкам. */
+    @Test
+    void settlePaysWinners() {
+        Hippodrome hippodrome = hippodrome();
+        BettingPool pool = new BettingPool(hippodrome, 0.1);
+        BettingPool.Ticket first = pool.placeBet(1, 100);
+        BettingPool.Ticket second = pool.placeBet(1, 300);
+        BettingPool.Ticket loser = pool.placeBet(0, 600);
+        pool.close();
+        assertEquals("Race is not finished.",
+                assertThrows(IllegalStateException.class, pool::settle).getMessage());
+        hippodrome.finish();
+
+        BettingPool.Settlement settlement = pool.settle();
+        assertSame(settlement, pool.settle());
+        assertEquals(BettingPool.State.SETTLED, pool.getState());
+        assertEquals(1, settlement.getWinner());
+        assertEquals("Blaze", settlement.getWinnerName());
+        assertEquals(1000, settlement.getPool());
+        assertEquals(900, settlement.getNetPool());
+        assertEquals(400, settlement.getWinnerStake());
+        assertFalse(settlement.isRefund());
+        assertEquals(225, settlement.getPayout(first));
+        assertEquals(675, settlement.getPayout(second));
+        assertEquals(0, settlement.getPayout(loser));
+    }
+
+    /** Проверка: если на победителя никто не ставил, ставки возвращаются. */
+    @Test
+    void settleRefundsWithoutWinningStake() {
+        Hippodrome hippodrome = hippodrome();
+        BettingPool pool = new BettingPool(hippodrome, 0.1);
+        BettingPool.Ticket ticket = pool.placeBet(2, 50);
+        pool.close();
+        hippodrome.finish();
+
+        BettingPool.Settlement settlement = pool.settle();
+        assertTrue(settlement.isRefund());
+        assertEquals(50, settlement.getPayout(ticket));
+    }
+
+    /** Проверка: билет другого пула не принимается к выплате. */
+    @Test
+    void rejectsForeignTicket() {
+        Hippodrome hippodrome = hippodrome();
+        BettingPool other = new BettingPool(hippodrome);
+        BettingPool.Ticket foreign = other.placeBet(1, 10);
+        BettingPool pool = new BettingPool(hippodrome);
+        pool.close();
+        hippodrome.finish();
+
+        assertEquals("Ticket is not from this pool.", assertThrows(IllegalArgumentException.class,
+                () -> pool.settle().getPayout(foreign)).getMessage());
+    }
+}
@@ -0,0 +1,162 @@
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Класс {@code TestBulkMover} содержит модульные тесты для проверки корректности работы класса {@link BulkMover}.
+ * Использует JUnit 5 для тестирования векторного и скалярного ядер перемещения по массивам скоростей и дистанций.
+ *
+ * <p>Основные проверки:
+ * <ul>
+ *     <li>Приращение дистанции следует формуле {@code distance += speed * random}, где random в [0.2, 0.9].</li>
+ *     <li>Распределение случайного множителя совпадает с равномерным на [0.2, 0.9).</li>
+ *     <li>Векторное ядро побитово совпадает со скалярным: число линий генератора фиксировано
+ *     ({@link MoveKernel#LANES}) и не зависит от ширины векторов процессора.</li>
+ *     <li>При отключённом Vector API используется скалярное ядро.</li>
+ * </ul>
+ *
+ * Пример использования:
+ * <pre>{@code
+ * BulkMover mover = new BulkMover(42L);
+ * hippodrome.move(mover);
+ * }</pre>
+ */
+class TestBulkMover {
+
+    /** Проверка: приращение каждой лошади равно скорости, умноженной на число из [0.2, 0.9]. */
+    @Test
+    void distanceUsingFormula() {
+        RaceField field = field(1003);
+        double[] before = distances(field);
+        new BulkMover(7L).move(field);
+        for (int i = 0; i < field.size(); i++) {
+            double factor = (field.getDistance(i) - before[i]) / field.getSpeed(i);
+            assertTrue(factor >= 0.2 - 1e-12 && factor <= 0.9 + 1e-12, "factor " + factor);
+        }
+    }
+
+    /** Проверка: среднее и дисперсия множителя соответствуют равномерному распределению на [0.2, 0.9). */
+    @Test
+    void uniformFactor() {
+        int size = 100_000;
+        RaceField field = new RaceField(size);
+        for (int i = 0; i < size; i++) {
+            field.add("Horse", 1.0, 0.0);
+        }
+        new BulkMover(11L).move(field);
+        double sum = 0;
+        double squares = 0;
+        int[] buckets = new int[7];
+        for (int i = 0; i < size; i++) {
+            double factor = field.getDistance(i);
+            sum += factor;
+            squares += factor * factor;
+            buckets[Math.min((int) ((factor - 0.2) * 10), 6)]++;
+        }
+        double mean = sum / size;
+        double variance = squares / size - mean * mean;
+        assertEquals(0.55, mean, 0.005);
+        assertEquals(0.49 / 12, variance, 0.001);
+        for (int bucket : buckets) {
+            assertEquals(size / 7.0, bucket, size / 7.0 * 0.05);
+        }
+    }
+
+    /** Проверка: векторное ядро даёт те же результаты, что и скалярное, при любой ширине векторов. */
+    @ParameterizedTest
+    @ValueSource(ints = {1, 7, 8, 64, 1003})
+    void vectorMatchesScalar(int size) {
+        BulkMover vector = new BulkMover(42L);
+        assumeTrue(vector.isVectorized(), "Vector API is not available");
+        BulkMover scalar = BulkMover.scalar(42L);
+        RaceField vectorField = field(size);
+        RaceField scalarField = field(size);
+        for (int tick = 0; tick < 5; tick++) {
+            vector.move(vectorField);
+            scalar.move(scalarField);
+            assertArrayEquals(distances(scalarField), distances(vectorField));
+        }
+    }
+
+    /** Проверка: одинаковое зерно даёт одинаковые результаты, разное — разные. */
+    @Test
+    void seeded() {
+        RaceField first = field(100);
+        RaceField second = field(100);
+        RaceField third = field(100);
+        new BulkMover(1L).move(first);
+        new BulkMover(1L).move(second);
+        new BulkMover(2L).move(third);
+        assertArrayEquals(distances(first), distances(second));
+        assertFalse(Arrays.equals(distances(first), distances(third)));
+    }
+
+    /** Проверка: после смены зерна использованный мувер повторяет новый мувер с тем же зерном. */
+    @Test
+    void reseed() {
+        RaceField first = field(100);
+        RaceField second = field(100);
+        BulkMover reused = new BulkMover(5L);
+        reused.move(field(100));
+        reused.reseed(1L);
+        reused.move(first);
+        new BulkMover(1L).move(second);
+        assertArrayEquals(distances(second), distances(first));
+    }
+
+    /** Проверка: при отключении векторного ядра используется скалярное. */
+    @Test
+    void scalarFallback() {
+        assertFalse(BulkMover.createKernel(1L, false).isVectorized());
+        assertEquals(MoveKernel.LANES, new BulkMover(1L).getLanes());
+    }
+
+    /** Проверка: {@link Hippodrome#move(BulkMover)} двигает поле и завершает тик. */
+    @Test
+    void hippodromeMove() {
+        RaceField field = field(10);
+        Hippodrome hippodrome = Hippodrome.of(field);
+        double[] before = distances(field);
+        hippodrome.move(new BulkMover(3L));
+        assertEquals(1, hippodrome.getTick());
+        assertFalse(Arrays.equals(before, distances(field)));
+        assertEquals(field.getWinnerIndex(), hippodrome.getLeaderboard().getLeader());
+
+        Hippodrome list = new Hippodrome(List.of(new Horse("Ace", 2.5)));
+        list.move(new BulkMover(3L));
+        assertTrue(list.getHorses().get(0).getDistance() > 0);
+    }
+
+    /** Проверка: null вместо поля вызывает исключение. */
+    @Test
+    void nullField() {
+        IllegalArgumentException exc = assertThrows(IllegalArgumentException.class, () -> new BulkMover(1L).move(null));
+        assertEquals("Field cannot be null.", exc.getMessage());
+    }
+
+    private static RaceField field(int size) {
+        RaceField field = new RaceField(size);
+        for (int i = 0; i < size; i++) {
+            field.add("Horse" + i, 1.0 + i % 5, i % 3);
+        }
+        return field;
+    }
+
+    private static double[] distances(RaceField field) {
+        double[] distances = new double[field.size()];
+        for (int i = 0; i < distances.length; i++) {
+            distances[i] = field.getDistance(i);
+        }
+        return distances;
+    }
+}
@@ -0,0 +1,215 @@
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Класс {@code TestFieldLoader} содержит модульные тесты для проверки корректности работы класса {@link FieldLoader}.
+ * Использует JUnit 5 для тестирования потоковой загрузки поля из CSV и двоичных файлов.
+ *
+ * <p>Основные проверки:
+ * <ul>
+ *     <li>CSV с заголовком, кавычками, комментариями и необязательной дистанцией загружается корректно.</li>
+ *     <li>Ошибки проверки собираются пакетом с номерами строк и текстами как у {@link Horse}.</li>
+ *     <li>Двоичный файл, записанный {@link FieldLoader#writeBinary}, читается обратно без потерь.</li>
+ *     <li>Формат файла определяется автоматически.</li>
+ *     <li>Поле из миллиона записей загружается целиком.</li>
+ * </ul>
+ *
+ * Пример использования:
+ * <pre>{@code
+ * Hippodrome hippodrome = FieldLoader.load(Path.of("registry.csv"));
+ * }</pre>
+ */
+class TestFieldLoader {
+
+    @TempDir
+    Path dir;
+
+    /** Проверка: загрузка CSV со всеми поддерживаемыми элементами. */
+    @Test
+    void readCsv() throws IOException {
+        Path file = write("name,speed,distance\r\n"
+                + "# comment\n"
+                + "Bucephalus,2.4\n"
+                + "\n"
+                + "\"Ace, of \"\"Spades\"\"\",2.5,10\n"
+                + "Зефир, 2.6 ,1e1\n"
+                + "Precise,0.1,12345678901234567890\n"
+                + "Cherry,3");
+        RaceField field = FieldLoader.read(file);
+
+        assertEquals(5, field.size());
+        assertEquals("Bucephalus", field.getName(0));
+        assertEquals(2.4, field.getSpeed(0));
+        assertEquals(0.0, field.getDistance(0));
+        assertEquals("Ace, of \"Spades\"", field.getName(1));
+        assertEquals(10.0, field.getDistance(1));
+        assertEquals("Зефир", field.getName(2));
+        assertEquals(2.6, field.getSpeed(2));
+        assertEquals(10.0, field.getDistance(2));
+        assertEquals(0.1, field.getSpeed(3));
+        assertEquals(12345678901234567890.0, field.getDistance(3));
+        assertEquals(3.0, field.getSpeed(4));
+    }
+
+    /** Проверка: быстрый разбор чисел совпадает с {@link Double#parseDouble}. */
+    @Test
+    void parsesLikeDouble() throws IOException {
+        String[] values = {"0", "1", "0.5", "2.675", "1.7976931348623157e308", "4.9e-324", "123456.789e-3",
+                "0.000001", "9007199254740993", "+7", "1E22", "3.14159265358979"};
+        StringBuilder csv = new StringBuilder();
+        for (String value : values) {
+            csv.append("Horse,1,").append(value).append('\n');
+        }
+        RaceField field = FieldLoader.readCsv(write(csv.toString()));
+        for (int i = 0; i < values.length; i++) {
+            assertEquals(Double.parseDouble(values[i]), field.getDistance(i), values[i]);
+        }
+    }
+
+    /** Проверка: все ошибки собираются в одно исключение с номерами строк. */
+    @Test
+    void batchedErrors() throws IOException {
+        Path file = write("Good,1\n"
+                + " ,1\n"
+                + "Slow,-1\n"
+                + "Back,1,-5\n"
+                + "Fast,quick\n"
+                + "Lonely\n"
+                + "Extra,1,2,3\n"
+                + "\"Open,1\n");
+        FieldLoadException exc = assertThrows(FieldLoadException.class, () -> FieldLoader.load(file));
+
+        assertEquals(7, exc.getErrorCount());
+        assertEquals(List.of(
+                "Line 2: Name cannot be blank.",
+                "Line 3: Speed cannot be negative.",
+                "Line 4: Distance cannot be negative.",
+                "Line 5: Speed is not a number.",
+                "Line 6: Expected name,speed[,distance].",
+                "Line 7: Expected name,speed[,distance].",
+                "Line 8: Unterminated quoted name."), exc.getErrors());
+        assertTrue(exc.getMessage().startsWith("Field file has 7 invalid entries."));
+    }
+
+    /** Проверка: количество сообщений об ошибках ограничено, но счётчик полный. */
+    @Test
+    void errorLimit() throws IOException {
+        Path file = write("Bad,-1\n".repeat(FieldLoader.MAX_REPORTED_ERRORS + 5));
+        FieldLoadException exc = assertThrows(FieldLoadException.class, () -> FieldLoader.readCsv(file));
+        assertEquals(FieldLoader.MAX_REPORTED_ERRORS + 5, exc.getErrorCount());
+        assertEquals(FieldLoader.MAX_REPORTED_ERRORS, exc.getErrors().size());
+    }
+
+    /** Проверка: файл без лошадей вызывает исключение. */
+    @Test
+    void empty() throws IOException {
+        Path file = write("name,speed\n");
+        IllegalArgumentException exc = assertThrows(IllegalArgumentException.class, () -> FieldLoader.load(file));
+        assertEquals("Horses cannot be empty.", exc.getMessage());
+    }
+
+    /** Проверка: null вместо пути вызывает исключение. */
+    @Test
+    void nullFile() {
+        IllegalArgumentException exc = assertThrows(IllegalArgumentException.class, () -> FieldLoader.load(null));
+        assertEquals("File cannot be null.", exc.getMessage());
+    }
+
+    /** Проверка: строка длиннее буфера чтения разбирается целиком. */
+    @Test
+    void longLine() throws IOException {
+        String name = "N".repeat(3 << 20);
+        RaceField field = FieldLoader.readCsv(write("Short,1\n" + name + ",2\n"));
+        assertEquals(name, field.getName(1));
+        assertEquals(2.0, field.getSpeed(1));
+    }
+
+    /** Проверка: двоичный файл читается обратно и определяется автоматически. */
+    @Test
+    void binaryRoundTrip() throws IOException {
+        RaceField source = new RaceField(3);
+        source.add("Bucephalus", 2.4, 0.0);
+        source.add("Зефир", 2.6, 1.5);
+        source.add("Cherry", 3.0, 7.25);
+        Path file = dir.resolve("field.bin");
+        FieldLoader.writeBinary(file, source);
+
+        Hippodrome hippodrome = FieldLoader.load(file);
+        RaceField field = hippodrome.getField();
+        assertEquals(3, field.size());
+        for (int i = 0; i < 3; i++) {
+            assertEquals(source.getName(i), field.getName(i));
+            assertEquals(source.getSpeed(i), field.getSpeed(i));
+            assertEquals(source.getDistance(i), field.getDistance(i));
+        }
+    }
+
+    /** Проверка: диапазон двоичного файла читается без остальных записей, размер берётся из заголовка. */
+    @Test
+    void binaryRange() throws IOException {
+        RaceField source = new RaceField(5);
+        for (int i = 0; i < 5; i++) {
+            source.add("Horse" + "-".repeat(i) + i, 2.0 + i, i * 1.5);
+        }
+        Path file = dir.resolve("field.bin");
+        FieldLoader.writeBinary(file, source);
+
+        assertEquals(5, FieldLoader.binarySize(file));
+        RaceField field = FieldLoader.readBinary(file, 1, 4);
+        assertEquals(3, field.size());
+        for (int i = 0; i < 3; i++) {
+            assertEquals(source.getName(i + 1), field.getName(i));
+            assertEquals(source.getSpeed(i + 1), field.getSpeed(i));
+            assertEquals(source.getDistance(i + 1), field.getDistance(i));
+        }
+        assertEquals("Range must be within the field.", assertThrows(IllegalArgumentException.class,
+                () -> FieldLoader.readBinary(file, 3, 6)).getMessage());
+        assertEquals("Range must be non-empty and not negative.", assertThrows(IllegalArgumentException.class,
+                () -> FieldLoader.readBinary(file, 2, 2)).getMessage());
+    }
+
+    /** Проверка: обрезанный двоичный файл вызывает исключение. */
+    @Test
+    void truncatedBinary() throws IOException {
+        RaceField source = new RaceField(2);
+        source.add("Bucephalus", 2.4, 0.0);
+        source.add("Cherry", 3.0, 0.0);
+        Path file = dir.resolve("field.bin");
+        FieldLoader.writeBinary(file, source);
+        byte[] bytes = Files.readAllBytes(file);
+        Files.write(file, Arrays.copyOf(bytes, bytes.length - 3));
+
+        IOException exc = assertThrows(IOException.class, () -> FieldLoader.readBinary(file));
+        assertTrue(exc.getMessage().startsWith("Truncated field file"));
+    }
+
+    /** Проверка: миллион записей загружается в поле целиком. */
+    @Test
+    void loadMillion() throws IOException {
+        StringBuilder csv = new StringBuilder(24 << 20);
+        for (int i = 0; i < 1_000_000; i++) {
+            csv.append("Horse ").append(i).append(",2.").append(i % 100).append('\n');
+        }
+        Hippodrome hippodrome = FieldLoader.load(write(csv.toString()));
+        assertEquals(1_000_000, hippodrome.getField().size());
+        assertEquals("Horse 999999", hippodrome.getField().getName(999_999));
+        assertEquals(2.99, hippodrome.getField().getSpeed(999_999));
+    }
+
+    private Path write(String content) throws IOException {
+        Path file = dir.resolve("field.csv");
+        Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+        return file;
+    }
+}
@@ -1,10 +1,14 @@
 import org.junit.jupiter.api.Test;
 
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.*;
 
 /**
@@ -18,6 +22,8 @@ import static org.mockito.Mockito.*;
  *     <li>Возврат списка лошадей через метод {@code getHorses()}.</li>
  *     <li>Вызов метода {@code move()} у всех лошадей.</li>
  *     <li>Определение победителя через метод {@code getWinner()} (лошадь с наибольшей дистанцией).</li>
+ *     <li>Таблица лидеров: {@code getTopK()} и {@code getRank()} после каждого {@code move()}; чтение
+ *     между тиками не меняет таблицу.</li>
  * </ul>
  *
  * Пример использования:
@@ -102,5 +108,71 @@ class TestHippodrome {
         Horse winner = hippodrome.getWinner();
         assertEquals(horse2, winner);
     }
-}
 
+    /** Проверка: {@code getTopK()} возвращает первых {@code k} лошадей по убыванию дистанции. */
+    @Test
+    void getTopKOrderedByDistance() {
+        Horse horse1 = new Horse("Test1", 1.0, 2.0);
+        Horse horse2 = new Horse("Test2", 1.5, 5.0);
+        Horse horse3 = new Horse("Test3", 1.5, 3.0);
+        Hippodrome hippodrome = new Hippodrome(List.of(horse1, horse2, horse3));
+        assertEquals(List.of(horse2, horse3), hippodrome.getTopK(2));
+        assertEquals(3, hippodrome.getTopK(10).size());
+    }
+
+    /** Проверка: {@code getRank()} возвращает место лошади, начиная с 1, и отклоняет чужую лошадь. */
+    @Test
+    void getRankOfHorse() {
+        Horse horse1 = new Horse("Test1", 1.0, 2.0);
+        Horse horse2 = new Horse("Test2", 1.5, 5.0);
+        Hippodrome hippodrome = new Hippodrome(List.of(horse1, horse2));
+        assertEquals(1, hippodrome.getRank(horse2));
+        assertEquals(2, hippodrome.getRank(horse1));
+        IllegalArgumentException exc = assertThrows(IllegalArgumentException.class,
+                () -> hippodrome.getRank(new Horse("Test3", 1.0)));
+        assertEquals("Horse is not in this race.", exc.getMessage());
+    }
+
+    /** Проверка: после {@code move()} таблица лидеров совпадает с полным пересчётом по дистанции. */
+    @Test
+    void leaderboardFollowsMove() {
+        List<Horse> horses = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            horses.add(new Horse("Name" + i, 1.0 + i % 7));
+        }
+        Hippodrome hippodrome = new Hippodrome(horses);
+        for (int tick = 0; tick < 20; tick++) {
+            hippodrome.move();
+            Horse expected = horses.stream().max(Comparator.comparing(Horse::getDistance)).get();
+            assertEquals(expected, hippodrome.getWinner());
+            List<Horse> top = hippodrome.getTopK(horses.size());
+            for (int rank = 1; rank < top.size(); rank++) {
+                assertTrue(top.get(rank - 1).getDistance() >= top.get(rank).getDistance());
+                assertEquals(rank + 1, hippodrome.getRank(top.get(rank)));
+            }
+        }
+    }
+
+    /** Проверка: таблица лидеров обновляется только тиком ипподрома, чтение её не пересчитывает. */
+    @Test
+    void leaderboardFollowsHippodromeTicks() {
+        Horse horseX = new Horse("X", 1.0, 0.0);
+        Horse horseY = new Horse("Y", 0.0, 5.0);
+        Hippodrome hippodrome = new Hippodrome(List.of(horseX, horseY));
+        Leaderboard before = hippodrome.getLeaderboard();
+
+        for (int i = 0; i < 100; i++) {
+            horseX.move();
+        }
+        assertEquals(horseY, hippodrome.getWinner());
+        assertEquals(1, hippodrome.getRank(horseY));
+        assertSame(before, hippodrome.getLeaderboard());
+
+        hippodrome.move();
+        assertNotSame(before, hippodrome.getLeaderboard());
+        assertEquals(horseX, hippodrome.getWinner());
+        assertEquals(List.of(horseX, horseY), hippodrome.getTopK(2));
+        assertEquals(2, hippodrome.getRank(horseY));
+        assertEquals(1, before.getRank(1));
+    }
+}
@@ -0,0 +1,100 @@
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Класс {@code TestLatencyHistogram} содержит модульные тесты для проверки корректности работы класса {@link LatencyHistogram}.
+ * Использует JUnit 5 для тестирования логарифмических корзин и вычисления перцентилей.
+ *
+ * <p>Основные проверки:
+ * <ul>
+ *     <li>Малые значения хранятся точно, большие — с относительной погрешностью меньше 1%.</li>
+ *     <li>Перцентили, среднее и максимум вычисляются по записанным значениям.</li>
+ *     <li>Запись из нескольких потоков не теряет значения.</li>
+ *     <li>Сброс очищает гистограмму.</li>
+ * </ul>
+ *
+ * Пример использования:
+ * <pre>{@code
+ * LatencyHistogram histogram = new LatencyHistogram();
+ * histogram.record(System.nanoTime() - start);
+ * long p99 = histogram.getPercentile(99);
+ * }</pre>
+ */
+class TestLatencyHistogram {
+
+    /** Проверка: корзины монотонны, а верхняя граница корзины близка к значению. */
+    @Test
+    void bucketPrecision() {
+        int previous = -1;
+        for (long value = 0; value < 1L << 40; value = value * 3 / 2 + 1) {
+            int index = LatencyHistogram.index(value);
+            assertTrue(index >= previous);
+            previous = index;
+            long high = LatencyHistogram.highestEquivalent(index);
+            assertTrue(high >= value);
+            assertTrue(high - value <= value / (1 << LatencyHistogram.SUB_BUCKET_BITS));
+        }
+        assertEquals(127, LatencyHistogram.highestEquivalent(LatencyHistogram.index(127)));
+        LatencyHistogram.index(Long.MAX_VALUE);
+    }
+
+    /** Проверка: перцентили, среднее и максимум. */
+    @Test
+    void percentiles() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 1; i <= 10_000; i++) {
+            histogram.record(i * 1000L);
+        }
+        assertEquals(10_000, histogram.getCount());
+        assertEquals(10_000_000, histogram.getMax());
+        assertEquals(5_000_500, histogram.getMean(), 1e-6);
+        assertEquals(5_000_000, histogram.getPercentile(50), 5_000_000 / 100.0);
+        assertEquals(9_900_000, histogram.getPercentile(99), 9_900_000 / 100.0);
+        assertEquals(10_000_000, histogram.getPercentile(100));
+        assertEquals(1000, histogram.getPercentile(0), 10);
+    }
+
+    /** Проверка: перцентиль вне диапазона вызывает исключение. */
+    @Test
+    void percentileOutOfRange() {
+        IllegalArgumentException exc = assertThrows(IllegalArgumentException.class,
+                () -> new LatencyHistogram().getPercentile(101));
+        assertEquals("Percentile must be between 0 and 100.", exc.getMessage());
+    }
+
+    /** Проверка: параллельная запись не теряет значения. */
+    @Test
+    void concurrentRecord() throws InterruptedException {
+        LatencyHistogram histogram = new LatencyHistogram();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        for (int t = 0; t < 4; t++) {
+            executor.execute(() -> {
+                for (int i = 0; i < 25_000; i++) {
+                    histogram.record(i);
+                }
+            });
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+        assertEquals(100_000, histogram.getCount());
+        assertEquals(24_999, histogram.getMax());
+    }
+
+    /** Проверка: сброс очищает счётчики. */
+    @Test
+    void reset() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(42);
+        histogram.reset();
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getMax());
+        assertEquals(0, histogram.getPercentile(50));
+    }
+}
@@ -0,0 +1,108 @@
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Класс {@code TestLeaderboard} содержит модульные тесты для проверки корректности работы класса {@link Leaderboard}.
+ * Использует JUnit 5 для тестирования инкрементальной сортировки участников по дистанции.
+ *
+ * <p>Основные проверки:
+ * <ul>
+ *     <li>Начальная сортировка по убыванию дистанции, при равенстве — по индексу.</li>
+ *     <li>Согласованность {@code getIndex()} и {@code getRank()}.</li>
+ *     <li>Инкрементальное обновление как при малых, так и при больших перестановках.</li>
+ *     <li>Копирование первых {@code k} индексов в {@code getTopK()}.</li>
+ *     <li>Двойная буферизация: запасная таблица догоняет опубликованную по изменённому диапазону.</li>
+ * </ul>
+ *
+ * Пример использования:
+ * <pre>{@code
+ * RaceField field = RaceField.of(horses);
+ * Leaderboard leaderboard = Hippodrome.of(field).getLeaderboard();
+ * int leader = leaderboard.getLeader();
+ * }</pre>
+ */
+class TestLeaderboard {
+
+    /** Проверка: начальная сортировка по дистанции, равные дистанции упорядочены по индексу. */
+    @Test
+    void initialOrder() {
+        Leaderboard leaderboard = new Leaderboard(new double[]{1.0, 3.0, 1.0, 2.0}, 4);
+        assertEquals(1, leaderboard.getLeader());
+        assertArrayEquals(new int[]{1, 3, 0, 2}, leaderboard.order());
+        assertEquals(3, leaderboard.getRank(0));
+        assertEquals(0, leaderboard.getIndex(3));
+    }
+
+    /** Проверка: {@code getTopK()} копирует не больше {@code k} индексов и возвращает их количество. */
+    @Test
+    void topK() {
+        Leaderboard leaderboard = new Leaderboard(new double[]{1.0, 3.0, 2.0}, 3);
+        int[] out = new int[5];
+        assertEquals(2, leaderboard.getTopK(2, out));
+        assertEquals(1, out[0]);
+        assertEquals(2, out[1]);
+        assertEquals(3, leaderboard.getTopK(10, out));
+    }
+
+    /** Проверка: после малых и больших изменений дистанций порядок совпадает с полной сортировкой. */
+    @Test
+    void updateMatchesFullSort() {
+        int size = 5000;
+        double[] distances = new double[size];
+        Leaderboard leaderboard = new Leaderboard(distances, size);
+        Random random = new Random(1);
+        for (int tick = 0; tick < 30; tick++) {
+            double spread = tick % 10 == 0 ? 1000.0 : 0.5;
+            for (int i = 0; i < size; i++) {
+                distances[i] += random.nextDouble() * spread;
+            }
+            leaderboard.update();
+
+            int[] expected = new int[size];
+            for (int i = 0; i < size; i++) {
+                expected[i] = i;
+            }
+            Leaderboard.sort(distances, expected, 0, size - 1);
+            assertArrayEquals(expected, leaderboard.order());
+            for (int rank = 1; rank <= size; rank++) {
+                assertEquals(rank, leaderboard.getRank(leaderboard.getIndex(rank)));
+            }
+        }
+    }
+
+    /** Проверка: две таблицы, обновляемые поочерёдно от предыдущей, совпадают с полной сортировкой. */
+    @Test
+    void alternatingUpdateMatchesFullSort() {
+        int size = 6000;
+        double[] distances = new double[size];
+        Leaderboard published = new Leaderboard(distances, size);
+        Leaderboard spare = new Leaderboard(published);
+        Random random = new Random(2);
+        for (int tick = 0; tick < 30; tick++) {
+            double spread = tick % 7 == 0 ? 1000.0 : 0.5;
+            for (int i = 0; i < size; i++) {
+                distances[i] += random.nextDouble() * spread;
+            }
+            int[] before = published.order().clone();
+            spare.update(published);
+            assertArrayEquals(before, published.order());
+            Leaderboard swap = published;
+            published = spare;
+            spare = swap;
+
+            int[] expected = new int[size];
+            for (int i = 0; i < size; i++) {
+                expected[i] = i;
+            }
+            Leaderboard.sort(distances, expected, 0, size - 1);
+            assertArrayEquals(expected, published.order());
+            for (int rank = 1; rank <= size; rank++) {
+                assertEquals(rank, published.getRank(published.getIndex(rank)));
+            }
+        }
+    }
+}
@@ -0,0 +1,244 @@
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Класс {@code TestModelMover} содержит модульные тесты для проверки корректности работы классов
+ * {@link ModelMover} и {@link MovementModel}.
+ * Использует JUnit 5 для тестирования моделей движения, применяемых к полю группами.
+ *
+ * <p>Основные проверки:
+ * <ul>
+ *     <li>Модель по умолчанию повторяет формулу {@link Horse#move()} на случайных числах из seed.</li>
+ *     <li>Формулы усталости, разгона и поправки на состояние дорожки.</li>
+ *     <li>Лошади группируются по типу модели, параметры каждой лошади хранятся отдельно.</li>
+ *     <li>Разгон считается от тика ипподрома или от сброшенного счётчика.</li>
+ *     <li>Валидация параметров и поведение {@link Hippodrome#move(ModelMover)}.</li>
+ * </ul>
+ *
+ * Пример использования:
+ * <pre>{@code
+ * ModelMover mover = new ModelMover(field.size(), 42L);
+ * mover.assign(0, 10, MovementModel.fatigue(0.01));
+ * mover.setTrackCondition(MovementModel.TrackCondition.SOFT);
+ * hippodrome.move(mover);
+ * }</pre>
+ */
+class TestModelMover {
+
+    private static RaceField field(double... distances) {
+        RaceField field = new RaceField(distances.length);
+        for (int i = 0; i < distances.length; i++) {
+            field.add("Horse" + i, 10.0 + i, distances[i]);
+        }
+        return field;
+    }
+
+    private static double factor(SplittableRandom random) {
+        return random.nextDouble(MovementModel.MIN_FACTOR, MovementModel.MAX_FACTOR);
+    }
+
+    /** Проверка: модель по умолчанию меняет дистанцию по формуле {@code distance + speed * randomValue}. */
+    @ParameterizedTest
+    @ValueSource(longs = {1L, 42L, 7_777L})
+    void uniformUsingFormula(long seed) {
+        RaceField field = field(5.0, 0.0);
+        ModelMover mover = new ModelMover(2, seed);
+        assertSame(MovementModel.uniform(), mover.getModel(1));
+
+        mover.move(field);
+
+        SplittableRandom random = new SplittableRandom(seed);
+        assertEquals(5.0 + 10.0 * factor(random), field.getDistance(0));
+        assertEquals(11.0 * factor(random), field.getDistance(1));
+    }
+
+    /** Проверка: усталость уменьшает приращение с ростом дистанции, разгон — в начале забега. */
+    @Test
+    void fatigueAndAccelerationUsingFormula() {
+        RaceField field = field(100.0, 0.0);
+        ModelMover mover = new ModelMover(2, 3L);
+        mover.assign(0, MovementModel.fatigue(0.01));
+        mover.assign(1, MovementModel.acceleration(0.5, 4));
+        SplittableRandom random = new SplittableRandom(3L);
+
+        mover.move(field);
+        assertEquals(100.0 + 10.0 * factor(random) / 2.0, field.getDistance(0), 1e-12);
+        assertEquals(11.0 * factor(random) * 0.5, field.getDistance(1), 1e-12);
+
+        for (int tick = 1; tick < 3; tick++) {
+            mover.move(field);
+            factor(random);
+            factor(random);
+        }
+        double fatigued = field.getDistance(0);
+        double distance = field.getDistance(1);
+        mover.move(field);
+        assertEquals(fatigued + 10.0 * factor(random) / (1 + 0.01 * fatigued), field.getDistance(0), 1e-12);
+        assertEquals(distance + 11.0 * factor(random) * (0.5 + 0.5 * 3 / 4), field.getDistance(1), 1e-12);
+        factor(random);
+        distance = field.getDistance(1);
+        mover.move(field);
+        assertEquals(distance + 11.0 * factor(random) * 1.0, field.getDistance(1), 1e-12);
+        assertEquals(5, mover.getTick());
+    }
+
+    /** Проверка: состояние дорожки умножает приращение на свой коэффициент. */
+    @Test
+    void trackConditionScalesMovement() {
+        RaceField field = field(0.0);
+        ModelMover mover = new ModelMover(1, 9L);
+        mover.setTrackCondition(MovementModel.TrackCondition.HEAVY);
+
+        mover.move(field);
+
+        assertEquals(10.0 * factor(new SplittableRandom(9L)) * 0.8, field.getDistance(0), 1e-12);
+    }
+
+    /** Проверка: модели одного типа с разными параметрами образуют одну группу, каждая лошадь — со своими. */
+    @Test
+    void groupsHorsesByModelType() {
+        int size = 9;
+        RaceField field = field(new double[size]);
+        ModelMover mover = new ModelMover(size, 5L);
+        for (int i = 0; i < size; i++) {
+            if (i % 3 == 0) {
+                mover.assign(i, MovementModel.uniform());
+            } else if (i % 3 == 1) {
+                mover.assign(i, MovementModel.fatigue(i));
+            } else {
+                mover.assign(i, MovementModel.acceleration(0.1 * i / size, 10 + i));
+            }
+        }
+        assertEquals(3, mover.getGroupCount());
+
+        double[] first = new double[size];
+        double[] second = new double[size];
+        SplittableRandom random = new SplittableRandom(5L);
+        for (int[] group : new int[][]{{0, 3, 6}, {1, 4, 7}, {2, 5, 8}}) {
+            for (int i : group) {
+                first[i] = field.getSpeed(i) * factor(random);
+            }
+        }
+        for (int[] group : new int[][]{{0, 3, 6}, {1, 4, 7}, {2, 5, 8}}) {
+            for (int i : group) {
+                second[i] = field.getSpeed(i) * factor(random);
+            }
+        }
+        mover.move(field);
+        mover.move(field);
+
+        for (int i = 0; i < size; i++) {
+            double expected;
+            if (i % 3 == 0) {
+                expected = first[i] + second[i];
+            } else if (i % 3 == 1) {
+                expected = first[i] + second[i] / (1 + i * first[i]);
+            } else {
+                double start = 0.1 * i / size;
+                expected = first[i] * start + second[i] * (start + (1 - start) / (10 + i));
+            }
+            assertEquals(expected, field.getDistance(i), 1e-12, "horse " + i);
+        }
+
+        mover.assign(0, size, MovementModel.fatigue(0.5));
+        assertEquals(1, mover.getGroupCount());
+    }
+
+    /** Проверка: одинаковый seed даёт одинаковую гонку. */
+    @Test
+    void sameSeedSameRace() {
+        RaceField first = field(new double[50]);
+        RaceField second = field(new double[50]);
+        ModelMover a = new ModelMover(50, 11L);
+        ModelMover b = new ModelMover(50, 11L);
+        a.assign(10, 30, MovementModel.fatigue(0.02));
+        b.assign(10, 30, MovementModel.fatigue(0.02));
+        for (int tick = 0; tick < 20; tick++) {
+            a.move(first);
+            b.move(second);
+        }
+        for (int i = 0; i < 50; i++) {
+            assertEquals(first.getDistance(i), second.getDistance(i));
+        }
+    }
+
+    /** Проверка: разгон после {@code reset()} начинается заново, на ипподроме — от его тика. */
+    @Test
+    void accelerationFollowsRaceTick() {
+        ModelMover mover = new ModelMover(1, 2L);
+        mover.assign(0, MovementModel.acceleration(0.0, 10));
+        RaceField field = field(0.0);
+        for (int tick = 0; tick < 15; tick++) {
+            mover.move(field);
+        }
+        mover.reset();
+        assertEquals(0, mover.getTick());
+        RaceField next = field(0.0);
+        mover.move(next);
+        assertEquals(0.0, next.getDistance(0));
+
+        Hippodrome hippodrome = Hippodrome.packed(List.of(new Horse("Ace", 2.5)));
+        ModelMover fresh = new ModelMover(1, 2L);
+        fresh.assign(0, MovementModel.acceleration(0.0, 10));
+        hippodrome.move(fresh);
+        assertEquals(0.0, hippodrome.getField().getDistance(0));
+        assertEquals(1, fresh.getTick());
+        hippodrome.move(mover);
+        assertEquals(2, mover.getTick());
+        assertTrue(hippodrome.getField().getDistance(0) > 0);
+    }
+
+    /** Проверка: недопустимые параметры отклоняются с понятным сообщением. */
+    @Test
+    void rejectsInvalidArguments() {
+        assertEquals("Size must be positive.",
+                assertThrows(IllegalArgumentException.class, () -> new ModelMover(0, 1L)).getMessage());
+        assertEquals("Fatigue rate must be a finite non-negative number.",
+                assertThrows(IllegalArgumentException.class, () -> MovementModel.fatigue(-1)).getMessage());
+        assertEquals("Fatigue rate must be a finite non-negative number.",
+                assertThrows(IllegalArgumentException.class, () -> MovementModel.fatigue(Double.NaN)).getMessage());
+        assertEquals("Fatigue rate must be a finite non-negative number.", assertThrows(IllegalArgumentException.class,
+                () -> MovementModel.fatigue(Double.POSITIVE_INFINITY)).getMessage());
+        assertEquals("Start must be between 0 and 1.",
+                assertThrows(IllegalArgumentException.class, () -> MovementModel.acceleration(1.5, 10)).getMessage());
+        assertEquals("Ramp ticks must be positive.",
+                assertThrows(IllegalArgumentException.class, () -> MovementModel.acceleration(0.5, 0)).getMessage());
+
+        ModelMover mover = new ModelMover(2, 1L);
+        assertEquals("Model cannot be null.",
+                assertThrows(IllegalArgumentException.class, () -> mover.assign(0, null)).getMessage());
+        assertThrows(IndexOutOfBoundsException.class, () -> mover.assign(2, MovementModel.uniform()));
+        assertEquals("Track condition cannot be null.",
+                assertThrows(IllegalArgumentException.class, () -> mover.setTrackCondition(null)).getMessage());
+        assertEquals("Field size must be equal to mover size.",
+                assertThrows(IllegalArgumentException.class, () -> mover.move(field(0.0))).getMessage());
+    }
+
+    /** Проверка: ипподром на упакованном поле применяет модели, на списке лошадей — только модель по умолчанию. */
+    @Test
+    void hippodromeMovesWithModels() {
+        List<Horse> horses = List.of(new Horse("Ace", 2.5), new Horse("Blaze", 2.7));
+        ModelMover mover = new ModelMover(2, 1L);
+        mover.assign(1, MovementModel.fatigue(0.1));
+
+        Hippodrome packed = Hippodrome.packed(horses);
+        packed.move(mover);
+        assertEquals(1, packed.getTick());
+        assertEquals(1, mover.getTick());
+
+        Hippodrome classic = new Hippodrome(horses);
+        assertEquals("Movement models require a packed field.",
+                assertThrows(IllegalStateException.class, () -> classic.move(mover)).getMessage());
+        classic.move(new ModelMover(2, 1L));
+        assertEquals(1, classic.getTick());
+    }
+}
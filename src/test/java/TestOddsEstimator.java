@@ -0,0 +1,114 @@
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+
+/**
+ * Класс {@code TestOddsEstimator} содержит модульные тесты для проверки корректности работы классов
+ * {@link OddsEstimator} и {@link Odds}.
+ * Использует JUnit 5 и Mockito для тестирования пакетной оценки шансов методом Монте-Карло.
+ *
+ * <p>Основные проверки:
+ * <ul>
+ *     <li>Валидация аргументов конструктора и количества забегов.</li>
+ *     <li>Воспроизводимость результата при одинаковых seed и количестве потоков.</li>
+ *     <li>Согласованность частот win/place/show и доверительных интервалов.</li>
+ *     <li>Досрочная остановка по промежуточным результатам.</li>
+ *     <li>Исключение в потоке оценки передаётся вызывающему, а не превращается в неполный результат.</li>
+ * </ul>
+ *
+ * Пример использования:
+ * <pre>{@code
+ * OddsEstimator estimator = new OddsEstimator(RaceField.of(horses), 42L);
+ * Odds odds = estimator.estimate(1_000_000, partial -> partial.getMaxHalfWidth(Odds.Finish.WIN) > 0.001);
+ * }</pre>
+ */
+class TestOddsEstimator {
+
+    private static final RaceField FIELD = RaceField.of(List.of(
+            new Horse("Bucephalus", 2.4),
+            new Horse("Zephyr", 2.6),
+            new Horse("Cherry", 3)
+    ));
+
+    /** Проверка: сообщения исключений при некорректных аргументах. */
+    @Test
+    void invalidArguments() {
+        assertEquals("Field cannot be null.",
+                assertThrows(IllegalArgumentException.class, () -> new OddsEstimator(null, 1L)).getMessage());
+        assertEquals("Ticks must be positive.",
+                assertThrows(IllegalArgumentException.class, () -> new OddsEstimator(FIELD, 0, 1, 1L)).getMessage());
+        assertEquals("Workers must be positive.",
+                assertThrows(IllegalArgumentException.class, () -> new OddsEstimator(FIELD, 1, 0, 1L)).getMessage());
+        assertEquals("Races must be positive.",
+                assertThrows(IllegalArgumentException.class, () -> new OddsEstimator(FIELD, 1L).estimate(0)).getMessage());
+    }
+
+    /** Проверка: одинаковые seed и количество потоков дают одинаковые частоты. */
+    @Test
+    void sameSeedSameOdds() throws InterruptedException {
+        Odds first = new OddsEstimator(FIELD, 20, 3, 42L).estimate(3000);
+        Odds second = new OddsEstimator(FIELD, 20, 3, 42L).estimate(3000);
+        assertEquals(3000, first.getRaces());
+        for (int i = 0; i < FIELD.size(); i++) {
+            for (Odds.Finish finish : Odds.Finish.values()) {
+                assertEquals(first.getCount(finish, i), second.getCount(finish, i));
+            }
+        }
+    }
+
+    /** Проверка: частоты победы в сумме дают 1, места — 2, призовые — 3, интервалы содержат оценку. */
+    @Test
+    void frequenciesAreConsistent() throws InterruptedException {
+        Odds odds = new OddsEstimator(FIELD, 20, 2, 7L).estimate(2000);
+        double win = 0;
+        double place = 0;
+        double show = 0;
+        for (int i = 0; i < odds.size(); i++) {
+            win += odds.getFrequency(Odds.Finish.WIN, i);
+            place += odds.getFrequency(Odds.Finish.PLACE, i);
+            show += odds.getFrequency(Odds.Finish.SHOW, i);
+            assertTrue(odds.getLowerBound(Odds.Finish.WIN, i) <= odds.getFrequency(Odds.Finish.WIN, i));
+            assertTrue(odds.getUpperBound(Odds.Finish.WIN, i) >= odds.getFrequency(Odds.Finish.WIN, i));
+        }
+        assertEquals(1.0, win, 1e-9);
+        assertEquals(2.0, place, 1e-9);
+        assertEquals(3.0, show, 1e-9);
+        assertEquals("Cherry", odds.getName(2));
+        assertTrue(odds.getFrequency(Odds.Finish.WIN, 2) > odds.getFrequency(Odds.Finish.WIN, 0));
+    }
+
+    /** Проверка: если обработчик промежуточных результатов возвращает {@code false}, оценка останавливается. */
+    @Test
+    void stopEarly() throws InterruptedException {
+        AtomicInteger reports = new AtomicInteger();
+        Odds odds = new OddsEstimator(FIELD, 100, 1, 1L).estimate(Long.MAX_VALUE / 2, partial -> {
+            reports.incrementAndGet();
+            return false;
+        });
+        assertEquals(1, reports.get());
+        assertTrue(odds.getRaces() > 0 && odds.getRaces() < Long.MAX_VALUE / 2);
+    }
+
+    /** Проверка: исключение в рабочем потоке пробрасывается из {@code estimate()}. */
+    @Test
+    void workerFailureIsRethrown() {
+        RaceField broken = Mockito.mock(RaceField.class);
+        Mockito.when(broken.size()).thenReturn(3);
+        Mockito.when(broken.copy()).thenReturn(broken);
+        Mockito.when(broken.distances()).thenReturn(new double[3]);
+        Mockito.doThrow(new IllegalStateException("Broken field."))
+                .when(broken).move(anyInt(), anyInt(), any());
+
+        OddsEstimator estimator = new OddsEstimator(broken, 10, 2, 1L);
+        assertEquals("Broken field.",
+                assertThrows(IllegalStateException.class, () -> estimator.estimate(1000)).getMessage());
+    }
+}
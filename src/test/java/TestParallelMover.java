@@ -0,0 +1,98 @@
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Класс {@code TestParallelMover} содержит модульные тесты для проверки корректности работы класса {@link ParallelMover}.
+ * Использует JUnit 5 для тестирования параллельного шага гонки на {@link RaceField}.
+ *
+ * <p>Основные проверки:
+ * <ul>
+ *     <li>Валидация количества потоков.</li>
+ *     <li>Воспроизводимость гонки при одинаковых seed и количестве потоков.</li>
+ *     <li>Приращение дистанции в пределах {@code [0.2 * speed, 0.9 * speed)}.</li>
+ *     <li>Последовательный {@code move()} для {@link Hippodrome} на списке лошадей.</li>
+ * </ul>
+ *
+ * Пример использования:
+ * <pre>{@code
+ * try (ParallelMover mover = new ParallelMover(4, 42L)) {
+ *     hippodrome.move(mover);
+ * }
+ * }</pre>
+ */
+class TestParallelMover {
+
+    /** Проверка: неположительное количество потоков вызывает исключение. */
+    @Test
+    void workersNotPositive() {
+        IllegalArgumentException exc = assertThrows(IllegalArgumentException.class, () -> new ParallelMover(0, 1L));
+        assertEquals("Workers must be positive.", exc.getMessage());
+    }
+
+    /** Проверка: одинаковые seed и количество потоков дают одинаковую гонку. */
+    @Test
+    void sameSeedSameRace() {
+        RaceField first = field(ParallelMover.SEQUENTIAL_THRESHOLD * 4);
+        RaceField second = field(ParallelMover.SEQUENTIAL_THRESHOLD * 4);
+        try (ParallelMover a = new ParallelMover(4, 42L); ParallelMover b = new ParallelMover(4, 42L)) {
+            for (int i = 0; i < 10; i++) {
+                a.move(first);
+                b.move(second);
+            }
+        }
+        for (int i = 0; i < first.size(); i++) {
+            assertEquals(first.getDistance(i), second.getDistance(i));
+        }
+    }
+
+    /** Проверка: разные seed дают разные гонки. */
+    @Test
+    void differentSeedDifferentRace() {
+        RaceField first = field(100);
+        RaceField second = field(100);
+        try (ParallelMover a = new ParallelMover(2, 1L); ParallelMover b = new ParallelMover(2, 2L)) {
+            a.move(first);
+            b.move(second);
+        }
+        assertNotEquals(first.getDistance(0), second.getDistance(0));
+    }
+
+    /** Проверка: за один шаг дистанция растёт на {@code speed * random}, где {@code random} в {@code [0.2, 0.9)}. */
+    @Test
+    void distanceWithinFormulaBounds() {
+        RaceField field = field(ParallelMover.SEQUENTIAL_THRESHOLD * 2);
+        try (ParallelMover mover = new ParallelMover(3, 7L)) {
+            mover.move(field);
+        }
+        for (int i = 0; i < field.size(); i++) {
+            double speed = field.getSpeed(i);
+            double distance = field.getDistance(i);
+            assertTrue(distance >= speed * 0.2 && distance < speed * 0.9);
+        }
+    }
+
+    /** Проверка: {@link Hippodrome} на списке лошадей двигает каждую лошадь последовательно. */
+    @Test
+    void hippodromeOverListMovesSequentially() {
+        Horse horse = new Horse("Name", 10.0);
+        Hippodrome hippodrome = new Hippodrome(List.of(horse));
+        try (ParallelMover mover = new ParallelMover(2, 1L)) {
+            hippodrome.move(mover);
+        }
+        assertTrue(horse.getDistance() >= 2.0 && horse.getDistance() < 9.0);
+    }
+
+    private static RaceField field(int size) {
+        RaceField field = new RaceField(size);
+        for (int i = 0; i < size; i++) {
+            field.add("Name" + i, 1.0 + i % 5, 0);
+        }
+        return field;
+    }
+}
@@ -0,0 +1,164 @@
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Класс {@code TestRaceEventBus} содержит модульные тесты для проверки корректности работы класса {@link RaceEventBus}.
+ * Использует JUnit 5 для тестирования кольцевого буфера событий гонки и подписчиков.
+ *
+ * <p>Основные проверки:
+ * <ul>
+ *     <li>Ёмкость буфера должна быть степенью двойки.</li>
+ *     <li>Подписчик получает события тика, смены лидера и финиша по порядку.</li>
+ *     <li>Каждая стратегия ожидания доставляет события.</li>
+ *     <li>Медленный подписчик пропускает перезаписанные события и не блокирует публикацию.</li>
+ *     <li>Закрытие подписки из прерванного потока сохраняет флаг прерывания.</li>
+ * </ul>
+ *
+ * Пример использования:
+ * <pre>{@code
+ * RaceEventBus bus = new RaceEventBus(1024);
+ * hippodrome.setEventBus(bus);
+ * bus.subscribe(event -> System.out.println(event), RaceEventBus.WaitStrategy.BLOCKING);
+ * }</pre>
+ */
+class TestRaceEventBus {
+
+    /** Проверка: ёмкость, не являющаяся степенью двойки, вызывает исключение. */
+    @Test
+    void capacityPowerOfTwo() {
+        IllegalArgumentException exc = assertThrows(IllegalArgumentException.class, () -> new RaceEventBus(12));
+        assertEquals("Capacity must be a power of two.", exc.getMessage());
+    }
+
+    /** Проверка: {@link Hippodrome} публикует тики, смену лидера и финиш. */
+    @Test
+    void hippodromePublishesEvents() throws InterruptedException {
+        Horse first = new Horse("First", 1.0, 10.0);
+        Horse second = new Horse("Second", 1.0, 0.0);
+        Hippodrome hippodrome = new Hippodrome(List.of(first, second));
+        RaceEventBus bus = new RaceEventBus(64);
+        hippodrome.setEventBus(bus);
+        List<String> received = new CopyOnWriteArrayList<>();
+        CountDownLatch finished = new CountDownLatch(1);
+        RaceEventBus.Subscription subscription = bus.subscribe(event -> {
+            received.add(event.getType() + ":" + event.getTick() + ":" + event.getLeader());
+            if (event.getType() == RaceEvent.Type.RACE_FINISHED) {
+                finished.countDown();
+            }
+        }, RaceEventBus.WaitStrategy.BLOCKING);
+
+        hippodrome.move();
+        hippodrome.finish();
+        assertTrue(finished.await(5, TimeUnit.SECONDS));
+        subscription.close();
+
+        assertEquals("TICK_COMPLETED:1:0", received.get(0));
+        assertEquals("RACE_FINISHED:1:0", received.get(received.size() - 1));
+    }
+
+    /** Проверка: событие смены лидера содержит прежнего и нового лидера. */
+    @Test
+    void leadChange() throws InterruptedException {
+        RaceField field = new RaceField(2);
+        field.add("Slow", 0.0, 1.0);
+        field.add("Fast", 100.0, 0.0);
+        Hippodrome hippodrome = Hippodrome.of(field);
+        RaceEventBus bus = new RaceEventBus(16);
+        hippodrome.setEventBus(bus);
+        CountDownLatch changed = new CountDownLatch(1);
+        List<RaceEvent> events = new CopyOnWriteArrayList<>();
+        RaceEventBus.Subscription subscription = bus.subscribe(event -> {
+            if (event.getType() == RaceEvent.Type.LEAD_CHANGE) {
+                RaceEvent copy = new RaceEvent();
+                copy.leader = event.getLeader();
+                copy.previousLeader = event.getPreviousLeader();
+                events.add(copy);
+                changed.countDown();
+            }
+        }, RaceEventBus.WaitStrategy.SLEEPING);
+
+        hippodrome.move();
+        assertTrue(changed.await(5, TimeUnit.SECONDS));
+        subscription.close();
+        assertEquals(1, events.get(0).getLeader());
+        assertEquals(0, events.get(0).getPreviousLeader());
+    }
+
+    /** Проверка: каждая стратегия ожидания доставляет все события по порядку. */
+    @ParameterizedTest
+    @EnumSource(RaceEventBus.WaitStrategy.class)
+    void strategiesDeliverInOrder(RaceEventBus.WaitStrategy strategy) throws InterruptedException {
+        RaceEventBus bus = new RaceEventBus(1024);
+        CountDownLatch done = new CountDownLatch(100);
+        List<Long> ticks = new CopyOnWriteArrayList<>();
+        RaceEventBus.Subscription subscription = bus.subscribe(event -> {
+            ticks.add(event.getTick());
+            done.countDown();
+        }, strategy);
+        for (int i = 0; i < 100; i++) {
+            bus.publish(RaceEvent.Type.TICK_COMPLETED, i, 0, 0);
+        }
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        subscription.close();
+        for (int i = 0; i < 100; i++) {
+            assertEquals(i, ticks.get(i));
+        }
+        assertEquals(0, subscription.getDropped());
+    }
+
+    /** Проверка: медленный подписчик пропускает события, а публикация не блокируется. */
+    @Test
+    void slowSubscriberDropsEvents() throws InterruptedException {
+        RaceEventBus bus = new RaceEventBus(16);
+        CountDownLatch first = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        List<Long> ticks = new CopyOnWriteArrayList<>();
+        RaceEventBus.Subscription subscription = bus.subscribe(event -> {
+            ticks.add(event.getTick());
+            first.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }, RaceEventBus.WaitStrategy.BLOCKING);
+
+        bus.publish(RaceEvent.Type.TICK_COMPLETED, 0, 0, 0);
+        assertTrue(first.await(5, TimeUnit.SECONDS));
+        for (int i = 1; i <= 10_000; i++) {
+            bus.publish(RaceEvent.Type.TICK_COMPLETED, i, 0, 0);
+        }
+        release.countDown();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (subscription.getSequence() <= bus.getCursor() && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+        subscription.close();
+
+        assertTrue(subscription.getDropped() > 0);
+        assertEquals(10_000L, ticks.get(ticks.size() - 1));
+        for (int i = 1; i < ticks.size(); i++) {
+            assertTrue(ticks.get(i) > ticks.get(i - 1));
+        }
+    }
+
+    /** Проверка: закрытие из прерванного потока не бросает исключение и сохраняет флаг прерывания. */
+    @Test
+    void closeKeepsInterrupt() {
+        RaceEventBus bus = new RaceEventBus(16);
+        RaceEventBus.Subscription subscription = bus.subscribe(event -> { }, RaceEventBus.WaitStrategy.BLOCKING);
+        Thread.currentThread().interrupt();
+        subscription.close();
+        assertTrue(Thread.interrupted());
+    }
+}
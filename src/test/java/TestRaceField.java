@@ -0,0 +1,149 @@
+import org.junit.jupiter.api.Test;
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Класс {@code TestRaceField} содержит модульные тесты для проверки корректности работы класса {@link RaceField}.
+ * Использует JUnit 5 и Mockito для тестирования упакованного представления поля в примитивных массивах.
+ *
+ * <p>Основные проверки:
+ * <ul>
+ *     <li>Валидация добавляемых участников с теми же сообщениями, что и у {@link Horse}.</li>
+ *     <li>Перенос лошадей из списка {@code List<Horse>} в массивы.</li>
+ *     <li>Формула движения {@code distance += speed * randomValue} для всего поля.</li>
+ *     <li>Определение победителя и ранжирование по дистанции.</li>
+ *     <li>Совместимость представлений {@link Horse} с {@link Hippodrome}.</li>
+ *     <li>Независимость копии {@code copy()} от исходного поля.</li>
+ * </ul>
+ *
+ * Пример использования:
+ * <pre>{@code
+ * RaceField field = RaceField.of(List.of(new Horse("Test1", 1.0), new Horse("Test2", 2.0)));
+ * field.move();
+ * int winner = field.getWinnerIndex();
+ * }</pre>
+ */
+class TestRaceField {
+
+    /** Проверка: ошибки валидации совпадают с сообщениями конструктора {@link Horse}. */
+    @Test
+    void addValidatesLikeHorse() {
+        RaceField field = new RaceField(4);
+        assertEquals("Name cannot be null.",
+                assertThrows(IllegalArgumentException.class, () -> field.add(null, 1.0, 0)).getMessage());
+        assertEquals("Name cannot be blank.",
+                assertThrows(IllegalArgumentException.class, () -> field.add(" ", 1.0, 0)).getMessage());
+        assertEquals("Speed cannot be negative.",
+                assertThrows(IllegalArgumentException.class, () -> field.add("Name", -1.0, 0)).getMessage());
+        assertEquals("Distance cannot be negative.",
+                assertThrows(IllegalArgumentException.class, () -> field.add("Name", 1.0, -1.0)).getMessage());
+    }
+
+    /** Проверка: при переполнении поля выбрасывается {@link IllegalStateException}. */
+    @Test
+    void addBeyondCapacity() {
+        RaceField field = new RaceField(1);
+        field.add("Name", 1.0, 0);
+        assertThrows(IllegalStateException.class, () -> field.add("Other", 1.0, 0));
+    }
+
+    /** Проверка: {@code of()} переносит имя, скорость и дистанцию каждой лошади. */
+    @Test
+    void ofCopiesHorses() {
+        RaceField field = RaceField.of(List.of(new Horse("Test1", 1.0, 2.0), new Horse("Test2", 1.5, 5.0)));
+        assertEquals(2, field.size());
+        assertEquals("Test2", field.getName(1));
+        assertEquals(1.5, field.getSpeed(1));
+        assertEquals(5.0, field.getDistance(1));
+    }
+
+    /** Проверка: копия не разделяет массивы с исходным полем и не растёт, {@code add()} не портит исходник. */
+    @Test
+    void copyIsIndependent() {
+        RaceField field = new RaceField(4);
+        field.add("Test1", 1.0, 2.0);
+        field.add("Test2", 1.5, 5.0);
+        RaceField copy = field.copy();
+
+        field.add("Test3", 2.0, 1.0);
+        copy.move();
+        assertEquals(2, copy.size());
+        assertEquals(2.0, field.getDistance(0));
+        assertEquals("Test3", field.getName(2));
+        assertThrows(IllegalStateException.class, () -> copy.add("Other", 1.0, 0));
+        assertEquals("Test3", field.getName(2));
+    }
+
+    /** Проверка: {@code getHorse()} возвращает одно и то же представление лошади. */
+    @Test
+    void getHorseReturnsCachedView() {
+        Hippodrome hippodrome = Hippodrome.packed(List.of(new Horse("Test1", 1.0, 2.0), new Horse("Test2", 1.5, 5.0)));
+        assertSame(hippodrome.getWinner(), hippodrome.getWinner());
+        assertSame(hippodrome.getField().getHorse(1), hippodrome.getWinner());
+    }
+
+    /** Проверка: {@code move()} изменяет дистанцию каждой лошади по формуле {@code Horse.move()}. */
+    @Test
+    void moveUsingFormula() {
+        try (MockedStatic<Horse> mocked = Mockito.mockStatic(Horse.class)) {
+            mocked.when(() -> Horse.getRandomDouble(0.2, 0.9)).thenReturn(0.5);
+            RaceField field = RaceField.of(List.of(new Horse("Test1", 10.0, 5.0), new Horse("Test2", 4.0)));
+            field.move();
+            assertEquals(10.0, field.getDistance(0));
+            assertEquals(2.0, field.getDistance(1));
+        }
+    }
+
+    /** Проверка: победитель и ранжирование определяются по наибольшей дистанции. */
+    @Test
+    void winnerAndRank() {
+        RaceField field = new RaceField(40);
+        for (int i = 0; i < 40; i++) {
+            field.add("Name" + i, 1.0, (i * 7) % 40);
+        }
+        int[] order = field.rank(new int[40]);
+        assertEquals(order[0], field.getWinnerIndex());
+        for (int i = 1; i < order.length; i++) {
+            assertEquals(39 - i, field.getDistance(order[i]));
+        }
+    }
+
+    /** Проверка: при равных дистанциях порядок определяется индексом участника. */
+    @Test
+    void rankTiesByIndex() {
+        RaceField field = new RaceField(3);
+        field.add("Test1", 1.0, 2.0);
+        field.add("Test2", 1.0, 2.0);
+        field.add("Test3", 1.0, 3.0);
+        assertArrayEquals(new int[]{2, 0, 1}, field.rank(new int[3]));
+        assertEquals(2, field.getWinnerIndex());
+    }
+
+    /** Проверка: представления {@link Horse} отражают состояние массивов и используются {@link Hippodrome}. */
+    @Test
+    void hippodromeOverField() {
+        Hippodrome hippodrome = Hippodrome.packed(List.of(new Horse("Test1", 1.0, 2.0), new Horse("Test2", 1.5, 5.0)));
+        Horse winner = hippodrome.getWinner();
+        assertEquals("Test2", winner.getName());
+        assertEquals(hippodrome.getHorses().get(1), winner);
+
+        hippodrome.move();
+        assertEquals(hippodrome.getField().getDistance(0), hippodrome.getHorses().get(0).getDistance());
+    }
+
+    /** Проверка: пустое или {@code null} поле не принимается {@link Hippodrome}. */
+    @Test
+    void hippodromeRejectsEmptyField() {
+        assertEquals("Field cannot be null.",
+                assertThrows(IllegalArgumentException.class, () -> Hippodrome.of(null)).getMessage());
+        assertEquals("Horses cannot be empty.",
+                assertThrows(IllegalArgumentException.class, () -> Hippodrome.of(new RaceField(1))).getMessage());
+    }
+}
@@ -0,0 +1,147 @@
+import org.junit.jupiter.api.Test;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.openmbean.CompositeData;
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Класс {@code TestRaceMetrics} содержит модульные тесты для проверки корректности работы класса {@link RaceMetrics}.
+ * Использует JUnit 5 для тестирования замеров фаз тика, счётчиков и публикации метрик через JMX.
+ *
+ * <p>Основные проверки:
+ * <ul>
+ *     <li>{@link Hippodrome#move()} записывает фазы перемещения и ранжирования.</li>
+ *     <li>{@link RaceScheduler} и {@link RaceRecorder} записывают фазы отрисовки и записи.</li>
+ *     <li>Снимок содержит число тиков, пропускную способность и аллокации на тик.</li>
+ *     <li>MBean регистрируется и читается через платформенный MBeanServer.</li>
+ * </ul>
+ *
+ * Пример использования:
+ * <pre>{@code
+ * RaceMetrics metrics = new RaceMetrics();
+ * hippodrome.setMetrics(metrics);
+ * metrics.register("main");
+ * RaceMetrics.Snapshot snapshot = metrics.snapshot();
+ * }</pre>
+ */
+class TestRaceMetrics {
+
+    /** Проверка: без метрик ипподром ничего не записывает. */
+    @Test
+    void disabledByDefault() {
+        Hippodrome hippodrome = new Hippodrome(List.of(new Horse("Ace", 2.5)));
+        hippodrome.move();
+        assertNull(hippodrome.getMetrics());
+    }
+
+    /** Проверка: каждый тик записывает фазы MOVE и RANK и счётчик тиков. */
+    @Test
+    void moveRecordsPhases() {
+        RaceField field = new RaceField(1000);
+        for (int i = 0; i < 1000; i++) {
+            field.add("Horse " + i, 2.0, 0.0);
+        }
+        Hippodrome hippodrome = Hippodrome.of(field);
+        RaceMetrics metrics = new RaceMetrics();
+        hippodrome.setMetrics(metrics);
+        for (int i = 0; i < 2 * RaceMetrics.ALLOCATION_SAMPLE_INTERVAL + 1; i++) {
+            hippodrome.move();
+        }
+
+        RaceMetrics.Snapshot snapshot = metrics.snapshot();
+        assertEquals(2 * RaceMetrics.ALLOCATION_SAMPLE_INTERVAL + 1, snapshot.getTicks());
+        assertEquals(snapshot.getTicks(), snapshot.getPhase(RaceMetrics.Phase.MOVE).getCount());
+        assertEquals(snapshot.getTicks(), snapshot.getPhase(RaceMetrics.Phase.RANK).getCount());
+        assertEquals(0, snapshot.getPhase(RaceMetrics.Phase.RENDER).getCount());
+        assertTrue(snapshot.getPhase(RaceMetrics.Phase.MOVE).getMaxNanos() > 0);
+        assertTrue(snapshot.getTicksPerSecond() > 0);
+        assertTrue(snapshot.getAllocatedBytesPerTick() >= 0);
+    }
+
+    /** Проверка: планировщик записывает фазу отрисовки. */
+    @Test
+    void schedulerRecordsRender() throws Exception {
+        Hippodrome hippodrome = new Hippodrome(List.of(new Horse("Ace", 2.5), new Horse("Blaze", 2.7)));
+        RaceMetrics metrics = new RaceMetrics();
+        hippodrome.setMetrics(metrics);
+        RaceScheduler scheduler = new RaceScheduler(hippodrome, 3, Duration.ofMillis(5),
+                Duration.ofMillis(5), RaceScheduler.Mode.REALTIME);
+        scheduler.run(h -> { });
+
+        assertEquals(3, metrics.getTicks());
+        assertTrue(metrics.getHistogram(RaceMetrics.Phase.RENDER).getCount() >= 1);
+    }
+
+    /** Проверка: сброс обнуляет тики и гистограммы. */
+    @Test
+    void reset() {
+        Hippodrome hippodrome = new Hippodrome(List.of(new Horse("Ace", 2.5)));
+        RaceMetrics metrics = new RaceMetrics();
+        hippodrome.setMetrics(metrics);
+        hippodrome.move();
+        metrics.reset();
+        assertEquals(0, metrics.getTicks());
+        assertEquals(0, metrics.getHistogram(RaceMetrics.Phase.MOVE).getCount());
+    }
+
+    /** Проверка: параллельные тики не теряются, а учёт аллокаций не уходит в минус. */
+    @Test
+    void concurrentTicks() throws InterruptedException {
+        RaceMetrics metrics = new RaceMetrics();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        for (int t = 0; t < 4; t++) {
+            executor.execute(() -> {
+                for (int i = 0; i < 10_000; i++) {
+                    metrics.tick();
+                }
+            });
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+        assertEquals(40_000, metrics.getTicks());
+        assertTrue(metrics.getAllocatedBytesPerTick() >= 0);
+    }
+
+    /** Проверка: пустое имя MBean вызывает исключение. */
+    @Test
+    void blankName() {
+        IllegalArgumentException exc = assertThrows(IllegalArgumentException.class,
+                () -> new RaceMetrics().register(" "));
+        assertEquals("Name cannot be blank.", exc.getMessage());
+    }
+
+    /** Проверка: метрики доступны через JMX. */
+    @Test
+    void jmx() throws Exception {
+        Hippodrome hippodrome = new Hippodrome(List.of(new Horse("Ace", 2.5)));
+        RaceMetrics metrics = new RaceMetrics();
+        hippodrome.setMetrics(metrics);
+        hippodrome.move();
+        ObjectName name = metrics.register("test");
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        try {
+            assertEquals(1L, server.getAttribute(name, "Ticks"));
+            CompositeData[] phases = (CompositeData[]) server.getAttribute(name, "Phases");
+            assertEquals(RaceMetrics.Phase.values().length, phases.length);
+            assertEquals("MOVE", phases[0].get("phase"));
+            assertEquals(1L, phases[0].get("count"));
+            server.invoke(name, "reset", null, null);
+            assertEquals(0L, server.getAttribute(name, "Ticks"));
+        } finally {
+            metrics.unregister();
+        }
+        assertFalse(server.isRegistered(name));
+    }
+}
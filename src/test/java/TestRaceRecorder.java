@@ -0,0 +1,198 @@
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static java.time.Duration.ofSeconds;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Класс {@code TestRaceRecorder} содержит модульные тесты для проверки корректности работы классов
+ * {@link RaceRecorder} и {@link RaceReplay}.
+ * Использует JUnit 5 для тестирования записи гонки в бинарный файл и её воспроизведения.
+ *
+ * <p>Основные проверки:
+ * <ul>
+ *     <li>Заголовок содержит имена, скорости и начальные дистанции.</li>
+ *     <li>Дистанции любого тика восстанавливаются без повторной симуляции: с заданным разрешением или побитово точно.</li>
+ *     <li>Сжатие: квантованная запись тика занимает заметно меньше 8 байт на лошадь.</li>
+ *     <li>Индекс тиков восстанавливается сканированием, если файл не был закрыт.</li>
+ *     <li>Воспроизведение читает файл окнами и не зависит от границ отображённых областей.</li>
+ *     <li>Сбой потока записи передаётся в {@code record()}, а не блокирует его.</li>
+ *     <li>Отказ при чтении файла, не являющегося записью гонки.</li>
+ * </ul>
+ *
+ * Пример использования:
+ * <pre>{@code
+ * try (RaceRecorder recorder = new RaceRecorder(file, hippodrome)) {
+ *     hippodrome.move();
+ *     recorder.record();
+ * }
+ * RaceReplay replay = new RaceReplay(file);
+ * replay.seek(50);
+ * }</pre>
+ */
+class TestRaceRecorder {
+
+    private static final double RESOLUTION = 0x1p-20;
+
+    @TempDir
+    Path directory;
+
+    /** Проверка: каждый тик воспроизводится с ошибкой не больше половины разрешения, заголовок содержит описание поля. */
+    @Test
+    void replayMatchesRecordedRace() throws IOException {
+        Path file = directory.resolve("race.bin");
+        Hippodrome hippodrome = Hippodrome.packed(horses(100));
+        List<double[]> expected = record(hippodrome, file, 70, RESOLUTION);
+
+        RaceReplay replay = new RaceReplay(file);
+        assertEquals(70, replay.getTicks());
+        assertEquals("Name7", replay.getField().getName(7));
+        assertEquals(hippodrome.getField().getSpeed(7), replay.getField().getSpeed(7));
+        double[] out = new double[100];
+        for (int tick = 70; tick >= 0; tick--) {
+            replay.read(tick, out);
+            for (int i = 0; i < out.length; i++) {
+                double error = Math.abs(out[i] - expected.get(tick)[i]);
+                assertTrue(error <= RESOLUTION / 2 + 4 * Math.ulp(expected.get(tick)[i]), "tick " + tick);
+            }
+        }
+        assertTrue(Files.size(file) < 70L * 100 * Double.BYTES * 2 / 3);
+    }
+
+    /** Проверка: по умолчанию каждый тик воспроизводится побитово точно. */
+    @Test
+    void losslessReplay() throws IOException {
+        Path file = directory.resolve("race.bin");
+        Hippodrome hippodrome = Hippodrome.packed(horses(20));
+        List<double[]> expected = record(hippodrome, file, 40, RaceRecorder.DEFAULT_RESOLUTION);
+
+        RaceReplay replay = new RaceReplay(file);
+        assertEquals(0, replay.getResolution());
+        double[] out = new double[20];
+        for (int tick = 0; tick <= 40; tick++) {
+            replay.read(tick, out);
+            assertArrayEquals(expected.get(tick), out);
+        }
+    }
+
+    /** Проверка: {@code seek()} загружает дистанции тика в поле, пригодное для {@link TerminalRenderer}. */
+    @Test
+    void seekLoadsHippodrome() throws IOException {
+        Path file = directory.resolve("race.bin");
+        Hippodrome hippodrome = new Hippodrome(horses(5));
+        List<double[]> expected = record(hippodrome, file, 10);
+
+        RaceReplay replay = new RaceReplay(file);
+        Hippodrome replayed = replay.toHippodrome();
+        replay.seek(10);
+        assertEquals(hippodrome.getWinner().getName(), replayed.getWinner().getName());
+        assertEquals(expected.get(10)[3], replayed.getHorses().get(3).getDistance());
+    }
+
+    /** Проверка: без завершающего индекса тики находятся сканированием записей. */
+    @Test
+    void indexRebuiltWithoutFooter() throws IOException {
+        Path file = directory.resolve("race.bin");
+        Hippodrome hippodrome = Hippodrome.packed(horses(10));
+        List<double[]> expected = record(hippodrome, file, 40);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.truncate(channel.size() - 40L * Long.BYTES - Long.BYTES - 2 * Integer.BYTES);
+        }
+
+        RaceReplay replay = new RaceReplay(file);
+        assertEquals(40, replay.getTicks());
+        double[] out = new double[10];
+        replay.read(37, out);
+        assertArrayEquals(expected.get(37), out);
+    }
+
+    /** Проверка: при маленьком окне отображения записи, пересекающие границы окон, читаются так же. */
+    @Test
+    void replayAcrossRegions() throws IOException {
+        Path file = directory.resolve("race.bin");
+        Hippodrome hippodrome = Hippodrome.packed(horses(50));
+        List<double[]> expected = record(hippodrome, file, 70, 0);
+
+        RaceReplay replay = new RaceReplay(file, 1000);
+        assertEquals(70, replay.getTicks());
+        assertEquals("Name49", replay.getField().getName(49));
+        double[] out = new double[50];
+        for (int tick = 0; tick <= 70; tick++) {
+            replay.read(tick, out);
+            assertArrayEquals(expected.get(tick), out);
+        }
+    }
+
+    /** Проверка: после гибели потока записи {@code record()} бросает {@link IOException}, а не зависает. */
+    @Test
+    void writerFailureReachesRecord() throws Exception {
+        Path file = directory.resolve("race.bin");
+        Hippodrome hippodrome = Hippodrome.packed(horses(10));
+        RaceRecorder recorder = new RaceRecorder(file, hippodrome);
+        recorder.record();
+        Thread writer = Thread.getAllStackTraces().keySet().stream()
+                .filter(thread -> thread.getName().equals("race-recorder") && thread.isAlive())
+                .findFirst().orElseThrow();
+        writer.interrupt();
+        writer.join();
+
+        IOException exc = assertTimeoutPreemptively(ofSeconds(5), () -> assertThrows(IOException.class, () -> {
+            for (int tick = 0; tick < 10; tick++) {
+                hippodrome.move();
+                recorder.record();
+            }
+        }));
+        assertEquals("Recording failed.", exc.getMessage());
+        assertThrows(IOException.class, recorder::close);
+    }
+
+    /** Проверка: файл без сигнатуры записи отклоняется с {@link IOException}. */
+    @Test
+    void rejectsForeignFile() throws IOException {
+        Path file = directory.resolve("foreign.bin");
+        Files.write(file, new byte[64]);
+        assertThrows(IOException.class, () -> new RaceReplay(file));
+    }
+
+    private static List<double[]> record(Hippodrome hippodrome, Path file, int ticks) throws IOException {
+        return record(hippodrome, file, ticks, 0);
+    }
+
+    private static List<double[]> record(Hippodrome hippodrome, Path file, int ticks, double resolution)
+            throws IOException {
+        List<double[]> expected = new ArrayList<>();
+        expected.add(distances(hippodrome));
+        try (RaceRecorder recorder = new RaceRecorder(file, hippodrome, resolution)) {
+            for (int tick = 0; tick < ticks; tick++) {
+                hippodrome.move();
+                recorder.record();
+                expected.add(distances(hippodrome));
+            }
+        }
+        return expected;
+    }
+
+    private static double[] distances(Hippodrome hippodrome) {
+        return hippodrome.getHorses().stream().mapToDouble(Horse::getDistance).toArray();
+    }
+
+    private static List<Horse> horses(int size) {
+        List<Horse> horses = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            horses.add(new Horse("Name" + i, 2.0 + i % 10 / 10.0));
+        }
+        return horses;
+    }
+}
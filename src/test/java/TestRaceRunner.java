@@ -0,0 +1,174 @@
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Класс {@code TestRaceRunner} содержит модульные тесты для проверки корректности работы классов
+ * {@link RaceRunner} и {@link RaceDefinition}.
+ * Использует JUnit 5 для тестирования одновременного проведения множества забегов.
+ *
+ * <p>Основные проверки:
+ * <ul>
+ *     <li>Валидация аргументов {@link RaceDefinition} и {@link RaceRunner}.</li>
+ *     <li>Завершение забега с победителем и публикация результата.</li>
+ *     <li>Превышение срока забега: без победителя и без ожидания следующего тика.</li>
+ *     <li>Проведение 10 000 одновременных забегов с ограничением параллелизма.</li>
+ *     <li>Закрытие дожидается идущих забегов или отменяет их со статусом {@code CANCELLED}.</li>
+ *     <li>Прерванное закрытие отменяет забеги и сохраняет флаг прерывания.</li>
+ * </ul>
+ *
+ * Пример использования:
+ * <pre>{@code
+ * try (RaceRunner runner = new RaceRunner(10_000, results::offer)) {
+ *     runner.submit(new RaceDefinition("race-1", horses, 100, Duration.ofMillis(200), Duration.ofSeconds(30)));
+ * }
+ * }</pre>
+ */
+class TestRaceRunner {
+
+    private static final List<Horse> HORSES = List.of(
+            new Horse("Bucephalus", 2.4),
+            new Horse("Zephyr", 2.6),
+            new Horse("Cherry", 3)
+    );
+
+    /** Проверка: сообщения исключений при некорректном описании забега. */
+    @Test
+    void invalidDefinition() {
+        assertEquals("Id cannot be blank.", assertThrows(IllegalArgumentException.class,
+                () -> new RaceDefinition(" ", HORSES, 1, Duration.ZERO, Duration.ofSeconds(1))).getMessage());
+        assertEquals("Horses cannot be empty.", assertThrows(IllegalArgumentException.class,
+                () -> new RaceDefinition("race", List.of(), 1, Duration.ZERO, Duration.ofSeconds(1))).getMessage());
+        assertEquals("Ticks must be positive.", assertThrows(IllegalArgumentException.class,
+                () -> new RaceDefinition("race", HORSES, 0, Duration.ZERO, Duration.ofSeconds(1))).getMessage());
+        assertEquals("Deadline must be positive.", assertThrows(IllegalArgumentException.class,
+                () -> new RaceDefinition("race", HORSES, 1, Duration.ZERO, Duration.ZERO)).getMessage());
+        assertEquals("Max concurrent races must be positive.", assertThrows(IllegalArgumentException.class,
+                () -> new RaceRunner(0, result -> { })).getMessage());
+    }
+
+    /** Проверка: забег завершается с победителем, результат публикуется и возвращается через future. */
+    @Test
+    void raceFinishesWithWinner() throws Exception {
+        ConcurrentLinkedQueue<RaceResult> published = new ConcurrentLinkedQueue<>();
+        try (RaceRunner runner = new RaceRunner(2, 4, published::offer)) {
+            RaceResult result = runner.submit(
+                    new RaceDefinition("race", HORSES, 5, Duration.ofMillis(2), Duration.ofSeconds(10))).get(10, TimeUnit.SECONDS);
+            assertEquals(RaceResult.Status.FINISHED, result.getStatus());
+            assertEquals(5, result.getTicks());
+            assertTrue(HORSES.stream().anyMatch(horse -> horse.getName().equals(result.getWinner())));
+            assertNull(result.getFailure());
+            assertEquals(result, published.poll());
+            assertEquals(0, HORSES.get(0).getDistance());
+        }
+    }
+
+    /** Проверка: если забег не успевает к сроку, он завершается со статусом {@code DEADLINE_EXCEEDED} без победителя. */
+    @Test
+    void deadlineExceeded() throws Exception {
+        try (RaceRunner runner = new RaceRunner(1, 1, result -> { })) {
+            RaceResult result = runner.submit(
+                    new RaceDefinition("race", HORSES, 1_000, Duration.ofMillis(10), Duration.ofMillis(50))).get(10, TimeUnit.SECONDS);
+            assertEquals(RaceResult.Status.DEADLINE_EXCEEDED, result.getStatus());
+            assertNull(result.getWinner());
+            assertTrue(result.getTicks() < 1_000);
+        }
+    }
+
+    /** Проверка: срок срабатывает сам по себе, не дожидаясь следующего тика с длинным интервалом. */
+    @Test
+    void deadlineDoesNotWaitForNextTick() throws Exception {
+        try (RaceRunner runner = new RaceRunner(1, 1, result -> { })) {
+            RaceResult result = runner.submit(
+                    new RaceDefinition("race", HORSES, 10, Duration.ofSeconds(5), Duration.ofMillis(100))).get(2, TimeUnit.SECONDS);
+            assertEquals(RaceResult.Status.DEADLINE_EXCEEDED, result.getStatus());
+            assertEquals(1, result.getTicks());
+            assertTrue(result.getElapsed().compareTo(Duration.ofSeconds(1)) < 0);
+        }
+    }
+
+    /** Проверка: 10 000 одновременных забегов завершаются, число идущих забегов не превышает ограничение. */
+    @Test
+    void tenThousandConcurrentRaces() throws Exception {
+        int races = 10_000;
+        int limit = 100;
+        AtomicInteger peak = new AtomicInteger();
+        List<CompletableFuture<RaceResult>> futures = new ArrayList<>(races);
+        try (RaceRunner runner = new RaceRunner(limit, result -> { })) {
+            for (int i = 0; i < races; i++) {
+                CompletableFuture<RaceResult> future = runner.submit(
+                        new RaceDefinition("race-" + i, HORSES, 10, Duration.ofMillis(2), Duration.ofMinutes(1)));
+                peak.accumulateAndGet(runner.getRunningRaces(), Math::max);
+                future.thenRun(() -> peak.accumulateAndGet(runner.getRunningRaces(), Math::max));
+                futures.add(future);
+            }
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).get(1, TimeUnit.MINUTES);
+        }
+        assertTrue(peak.get() <= limit, "peak " + peak.get());
+        assertTrue(peak.get() > 1, "peak " + peak.get());
+        for (CompletableFuture<RaceResult> future : futures) {
+            assertEquals(RaceResult.Status.FINISHED, future.get().getStatus());
+        }
+    }
+
+    /** Проверка: закрытие ждёт идущий забег с паузами между тиками, и он завершается штатно. */
+    @Test
+    void closeWaitsForPacedRace() throws Exception {
+        RaceRunner runner = new RaceRunner(1, 1, result -> { });
+        CompletableFuture<RaceResult> future = runner.submit(
+                new RaceDefinition("race", HORSES, 10, Duration.ofMillis(20), Duration.ofSeconds(10)));
+        Thread.sleep(30);
+        runner.close();
+
+        RaceResult result = future.get(1, TimeUnit.SECONDS);
+        assertEquals(RaceResult.Status.FINISHED, result.getStatus());
+        assertEquals(10, result.getTicks());
+        assertThrows(RejectedExecutionException.class, () -> runner.submit(
+                new RaceDefinition("late", HORSES, 1, Duration.ZERO, Duration.ofSeconds(1))));
+    }
+
+    /** Проверка: забег, не успевший завершиться за время ожидания закрытия, получает статус {@code CANCELLED}. */
+    @Test
+    void closeCancelsUnfinishedRace() throws Exception {
+        RaceRunner runner = new RaceRunner(1, 1, result -> { });
+        CompletableFuture<RaceResult> future = runner.submit(
+                new RaceDefinition("race", HORSES, 1_000, Duration.ofMillis(20), Duration.ofMinutes(1)));
+        Thread.sleep(30);
+        runner.close(Duration.ofMillis(50));
+
+        RaceResult result = future.get(1, TimeUnit.SECONDS);
+        assertEquals(RaceResult.Status.CANCELLED, result.getStatus());
+        assertNull(result.getWinner());
+        assertNull(result.getFailure());
+        assertTrue(result.getTicks() > 0 && result.getTicks() < 1_000);
+        assertEquals(0, runner.getRunningRaces());
+    }
+
+    /** Проверка: закрытие из прерванного потока сразу отменяет забеги и сохраняет флаг прерывания. */
+    @Test
+    void interruptedCloseCancelsRaces() throws Exception {
+        RaceRunner runner = new RaceRunner(1, 1, result -> { });
+        CompletableFuture<RaceResult> future = runner.submit(
+                new RaceDefinition("race", HORSES, 1_000, Duration.ofMillis(20), Duration.ofMinutes(1)));
+        Thread.sleep(30);
+        Thread.currentThread().interrupt();
+        runner.close();
+        assertTrue(Thread.interrupted());
+
+        RaceResult result = future.get(1, TimeUnit.SECONDS);
+        assertEquals(RaceResult.Status.CANCELLED, result.getStatus());
+        assertNull(result.getWinner());
+    }
+}
@@ -0,0 +1,89 @@
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.time.Duration.ofSeconds;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeout;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Класс {@code TestRaceScheduler} содержит модульные тесты для проверки корректности работы класса {@link RaceScheduler}.
+ * Использует JUnit 5 и Mockito для тестирования расписания тиков и отображения.
+ *
+ * <p>Основные проверки:
+ * <ul>
+ *     <li>Валидация аргументов конструктора.</li>
+ *     <li>Режим {@code HEADLESS} выполняет все тики без пауз и отображения.</li>
+ *     <li>Режим {@code REALTIME} выполняет заданное количество тиков с фиксированной частотой.</li>
+ *     <li>Отображение вызывается со своей частотой и один раз после финиша.</li>
+ *     <li>Ошибка отображения завершает гонку исключением.</li>
+ * </ul>
+ *
+ * Пример использования:
+ * <pre>{@code
+ * RaceScheduler scheduler = new RaceScheduler(hippodrome, 100,
+ *         Duration.ofMillis(200), Duration.ofMillis(50), RaceScheduler.Mode.REALTIME);
+ * scheduler.run(renderer::render);
+ * }</pre>
+ */
+class TestRaceScheduler {
+
+    private final Hippodrome hippodrome = new Hippodrome(List.of(new Horse("Test1", 1.0), new Horse("Test2", 2.0)));
+
+    /** Проверка: сообщения исключений при некорректных аргументах конструктора. */
+    @Test
+    void invalidArguments() {
+        assertEquals("Hippodrome cannot be null.", assertThrows(IllegalArgumentException.class,
+                () -> RaceScheduler.headless(null, 1)).getMessage());
+        assertEquals("Ticks must be positive.", assertThrows(IllegalArgumentException.class,
+                () -> RaceScheduler.headless(hippodrome, 0)).getMessage());
+        assertEquals("Tick interval must be positive.", assertThrows(IllegalArgumentException.class,
+                () -> new RaceScheduler(hippodrome, 1, Duration.ZERO, Duration.ofMillis(1), RaceScheduler.Mode.REALTIME)).getMessage());
+        assertEquals("Display interval must be positive.", assertThrows(IllegalArgumentException.class,
+                () -> new RaceScheduler(hippodrome, 1, Duration.ofMillis(1), null, RaceScheduler.Mode.REALTIME)).getMessage());
+    }
+
+    /** Проверка: режим {@code HEADLESS} выполняет все тики без отображения и пауз. */
+    @Test
+    void headlessRunsAllTicks() {
+        Hippodrome mocked = mock(Hippodrome.class);
+        RaceScheduler scheduler = RaceScheduler.headless(mocked, 10_000);
+        assertTimeout(ofSeconds(5), () -> scheduler.run(null));
+        verify(mocked, times(10_000)).move();
+        assertEquals(10_000, scheduler.getCompletedTicks());
+    }
+
+    /** Проверка: режим {@code REALTIME} выполняет все тики и вызывает отображение. */
+    @Test
+    void realtimeRunsAllTicksAndDisplays() throws Exception {
+        AtomicInteger frames = new AtomicInteger();
+        RaceScheduler scheduler = new RaceScheduler(hippodrome, 20,
+                Duration.ofMillis(5), Duration.ofMillis(10), RaceScheduler.Mode.REALTIME);
+        long start = System.nanoTime();
+        scheduler.run(h -> frames.incrementAndGet());
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+        assertEquals(20, scheduler.getCompletedTicks());
+        assertTrue(elapsedMillis >= 100);
+        assertTrue(frames.get() >= 2);
+    }
+
+    /** Проверка: исключение отображения прерывает гонку с {@link IllegalStateException}. */
+    @Test
+    void displayFailureStopsRace() {
+        RaceScheduler scheduler = new RaceScheduler(hippodrome, 1_000,
+                Duration.ofMillis(10), Duration.ofMillis(1), RaceScheduler.Mode.REALTIME);
+        IllegalStateException exc = assertThrows(IllegalStateException.class, () -> scheduler.run(h -> {
+            throw new IOException("closed");
+        }));
+        assertEquals("Race failed.", exc.getMessage());
+        assertTrue(scheduler.getCompletedTicks() < 1_000);
+    }
+}
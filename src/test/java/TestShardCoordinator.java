@@ -0,0 +1,139 @@
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Класс {@code TestShardCoordinator} содержит модульные тесты для проверки корректности работы класса {@link ShardCoordinator}.
+ * Использует JUnit 5 для тестирования гонки, разделённой между дочерними процессами {@link ShardWorker}.
+ *
+ * <p>Основные проверки:
+ * <ul>
+ *     <li>Валидация аргументов конструктора.</li>
+ *     <li>Каждый шард сам читает свой диапазон двоичного файла, координатор хранит только лучших K.</li>
+ *     <li>Глобальный победитель и лучшие K совпадают с локальным прогоном тех же шардов.</li>
+ *     <li>Одинаковое зерно даёт одинаковый результат.</li>
+ *     <li>Накладные расходы координации записываются для каждого тика, процессы завершаются при закрытии.</li>
+ * </ul>
+ *
+ * Пример использования:
+ * <pre>{@code
+ * FieldLoader.writeBinary(file, field);
+ * try (ShardCoordinator coordinator = new ShardCoordinator(file, 4, 10, 42L)) {
+ *     coordinator.run(100);
+ *     Horse winner = coordinator.getWinner();
+ * }
+ * }</pre>
+ */
+class TestShardCoordinator {
+
+    @TempDir
+    Path dir;
+
+    /** Проверка: сообщения исключений при некорректных аргументах конструктора. */
+    @Test
+    void invalidArguments() throws IOException {
+        Path file = file(3);
+        assertEquals("File cannot be null.", assertThrows(IllegalArgumentException.class,
+                () -> new ShardCoordinator(null, 1, 1, 0)).getMessage());
+        assertEquals("Shards must be between 1 and the number of horses.", assertThrows(IllegalArgumentException.class,
+                () -> new ShardCoordinator(file, 4, 1, 0)).getMessage());
+        assertEquals("Top K must be positive.", assertThrows(IllegalArgumentException.class,
+                () -> new ShardCoordinator(file, 1, 0, 0)).getMessage());
+    }
+
+    /** Проверка: результат шардированной гонки совпадает с локальным прогоном тех же разделов. */
+    @Test
+    void matchesLocalShards() throws IOException {
+        Path file = file(1001);
+        RaceField field = FieldLoader.readBinary(file);
+        int shards = 2;
+        int ticks = 5;
+        int[] top = new int[5];
+        double[] distances = new double[5];
+        try (ShardCoordinator coordinator = new ShardCoordinator(file, shards, 5, 42L)) {
+            assertEquals(shards, coordinator.getShards());
+            assertEquals(field.size(), coordinator.size());
+            assertEquals(field.getWinnerIndex(), coordinator.getWinnerIndex());
+            assertEquals(field.getName(field.getWinnerIndex()), coordinator.getWinner().getName());
+            coordinator.run(ticks);
+            assertEquals(ticks, coordinator.getTick());
+            assertEquals(5, coordinator.getTopK(top, distances));
+
+            double[] expected = new double[field.size()];
+            long[] seeds = ShardCoordinator.shardSeeds(42L, shards);
+            for (int shard = 0; shard < shards; shard++) {
+                int from = ShardCoordinator.shardStart(field.size(), shards, shard);
+                int to = ShardCoordinator.shardStart(field.size(), shards, shard + 1);
+                RaceField partition = FieldLoader.readBinary(file, from, to);
+                BulkMover mover = new BulkMover(seeds[shard]);
+                for (int tick = 0; tick < ticks; tick++) {
+                    mover.move(partition);
+                }
+                for (int i = from; i < to; i++) {
+                    expected[i] = partition.getDistance(i - from);
+                }
+            }
+            Leaderboard leaderboard = new Leaderboard(expected, expected.length);
+            for (int rank = 1; rank <= 5; rank++) {
+                assertEquals(leaderboard.getIndex(rank), top[rank - 1]);
+                assertEquals(expected[leaderboard.getIndex(rank)], distances[rank - 1]);
+            }
+            Horse winner = coordinator.getWinner();
+            assertEquals(field.getName(leaderboard.getLeader()), winner.getName());
+            assertEquals(expected[leaderboard.getLeader()], winner.getDistance());
+            assertEquals(leaderboard.getLeader(), coordinator.getWinnerIndex());
+        }
+    }
+
+    /** Проверка: одинаковое зерно даёт одинакового победителя и дистанцию. */
+    @Test
+    void deterministic() throws IOException {
+        Path file = file(300);
+        Horse first;
+        Horse second;
+        try (ShardCoordinator coordinator = new ShardCoordinator(file, 2, 1, 7L)) {
+            coordinator.run(10);
+            first = coordinator.getWinner();
+        }
+        try (ShardCoordinator coordinator = new ShardCoordinator(file, 2, 1, 7L)) {
+            coordinator.run(10);
+            second = coordinator.getWinner();
+        }
+        assertEquals(first.getName(), second.getName());
+        assertEquals(first.getDistance(), second.getDistance());
+    }
+
+    /** Проверка: накладные расходы записываются на каждый тик, процессы завершаются при закрытии. */
+    @Test
+    void overheadAndClose() throws IOException {
+        ShardCoordinator coordinator = new ShardCoordinator(file(100), 2, 3, 1L);
+        coordinator.run(20);
+        assertEquals(20, coordinator.getCoordinationOverhead().getCount());
+        assertEquals(20, coordinator.getTickLatency().getCount());
+        assertTrue(coordinator.getTickLatency().getMax() >= coordinator.getCoordinationOverhead().getMax());
+        coordinator.close();
+        for (Process process : coordinator.processes()) {
+            assertFalse(process.isAlive());
+            assertEquals(0, process.exitValue());
+        }
+        assertEquals("Coordinator is closed.", assertThrows(IllegalStateException.class, coordinator::move).getMessage());
+        assertThrows(IllegalStateException.class, coordinator::getWinner);
+    }
+
+    private Path file(int size) throws IOException {
+        RaceField field = new RaceField(size);
+        for (int i = 0; i < size; i++) {
+            field.add("Horse" + i, 1.0 + i % 7 * 0.1, i % 3 * 0.5);
+        }
+        Path file = dir.resolve("field-" + size + ".bin");
+        FieldLoader.writeBinary(file, field);
+        return file;
+    }
+}
@@ -0,0 +1,188 @@
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Класс {@code TestSnapshotBuffer} содержит модульные тесты для проверки корректности работы классов
+ * {@link SnapshotBuffer} и {@link RaceSnapshot}.
+ * Использует JUnit 5 для тестирования согласованных снимков состояния гонки без блокировок.
+ *
+ * <p>Основные проверки:
+ * <ul>
+ *     <li>Снимок неизменяем и помечен номером тика.</li>
+ *     <li>Читатель никогда не видит смесь дистанций разных тиков.</li>
+ *     <li>Ожидание следующего тика после N и тайм-аут ожидания.</li>
+ *     <li>Лучшие K лошадей снимка совпадают с таблицей лидеров.</li>
+ * </ul>
+ *
+ * Пример использования:
+ * <pre>{@code
+ * SnapshotBuffer snapshots = hippodrome.enableSnapshots();
+ * RaceSnapshot snapshot = snapshots.awaitTick(previous.getTick());
+ * }</pre>
+ */
+class TestSnapshotBuffer {
+
+    /** Проверка: снимки выключены по умолчанию, включение публикует текущее состояние. */
+    @Test
+    void enablePublishesCurrentState() {
+        Hippodrome hippodrome = new Hippodrome(List.of(new Horse("Ace", 2.5, 3.0), new Horse("Blaze", 2.7, 1.0)));
+        assertNull(hippodrome.getSnapshots());
+        SnapshotBuffer snapshots = hippodrome.enableSnapshots();
+        assertSame(snapshots, hippodrome.enableSnapshots());
+
+        RaceSnapshot snapshot = snapshots.snapshot();
+        assertEquals(0, snapshot.getTick());
+        assertEquals(2, snapshot.size());
+        assertEquals("Blaze", snapshot.getName(1));
+        assertEquals(2.7, snapshot.getSpeed(1));
+        assertEquals(3.0, snapshot.getDistance(0));
+        assertEquals(0, snapshot.getLeader());
+    }
+
+    /** Проверка: снимок не меняется после следующих тиков. */
+    @Test
+    void snapshotIsImmutable() {
+        RaceField field = new RaceField(3);
+        field.add("Ace", 2.5, 0.0);
+        field.add("Blaze", 2.7, 0.0);
+        field.add("Cherry", 3.0, 0.0);
+        Hippodrome hippodrome = Hippodrome.of(field);
+        SnapshotBuffer snapshots = hippodrome.enableSnapshots();
+        hippodrome.move();
+        RaceSnapshot first = snapshots.snapshot();
+        double[] distances = {first.getDistance(0), first.getDistance(1), first.getDistance(2)};
+
+        hippodrome.move();
+        hippodrome.move();
+        assertEquals(1, first.getTick());
+        assertArrayEquals(distances, new double[]{first.getDistance(0), first.getDistance(1), first.getDistance(2)});
+        RaceSnapshot third = snapshots.snapshot();
+        assertEquals(3, third.getTick());
+        assertEquals(3, snapshots.getTick());
+        for (int i = 0; i < 3; i++) {
+            assertEquals(field.getDistance(i), third.getDistance(i));
+        }
+        assertEquals(hippodrome.getLeaderboard().getLeader(), third.getLeader());
+    }
+
+    /** Проверка: лучшие K совпадают с порядком таблицы лидеров. */
+    @Test
+    void topK() {
+        RaceField field = new RaceField(200);
+        for (int i = 0; i < 200; i++) {
+            field.add("Horse" + i, 1.0 + i % 13, i % 5);
+        }
+        Hippodrome hippodrome = Hippodrome.of(field);
+        RaceSnapshot snapshot = hippodrome.enableSnapshots().snapshot();
+        int[] top = new int[10];
+        assertEquals(10, snapshot.getTopK(10, top));
+        for (int rank = 1; rank <= 10; rank++) {
+            assertEquals(hippodrome.getLeaderboard().getIndex(rank), top[rank - 1]);
+        }
+        hippodrome.move();
+        snapshot = hippodrome.getSnapshots().snapshot();
+        assertEquals(10, snapshot.getTopK(10, top));
+        for (int rank = 1; rank <= 10; rank++) {
+            assertEquals(hippodrome.getLeaderboard().getIndex(rank), top[rank - 1]);
+        }
+        assertEquals(0, snapshot.getTopK(0, new int[0]));
+        assertEquals("K cannot be negative.", assertThrows(IllegalArgumentException.class,
+                () -> hippodrome.getSnapshots().snapshot().getTopK(-1, top)).getMessage());
+        assertEquals("Output is too small.", assertThrows(IllegalArgumentException.class,
+                () -> hippodrome.getSnapshots().snapshot().getTopK(11, top)).getMessage());
+    }
+
+    /** Проверка: снимок до первой публикации вызывает исключение. */
+    @Test
+    void nothingPublished() {
+        IllegalStateException exc = assertThrows(IllegalStateException.class, () -> new SnapshotBuffer().snapshot());
+        assertEquals("No snapshot has been published.", exc.getMessage());
+    }
+
+    /** Проверка: читатель дожидается тика после заданного. */
+    @Test
+    void awaitNextTick() throws Exception {
+        Hippodrome hippodrome = new Hippodrome(List.of(new Horse("Ace", 2.5), new Horse("Blaze", 2.7)));
+        SnapshotBuffer snapshots = hippodrome.enableSnapshots();
+        CompletableFuture<RaceSnapshot> waiting = CompletableFuture.supplyAsync(() -> {
+            try {
+                return snapshots.awaitTick(2);
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        hippodrome.move();
+        hippodrome.move();
+        Thread.sleep(50);
+        assertFalse(waiting.isDone());
+        hippodrome.move();
+        assertEquals(3, waiting.get(5, TimeUnit.SECONDS).getTick());
+        assertEquals(3, snapshots.awaitTick(0).getTick());
+    }
+
+    /** Проверка: ожидание тика завершается по тайм-ауту. */
+    @Test
+    void awaitTimeout() {
+        Hippodrome hippodrome = new Hippodrome(List.of(new Horse("Ace", 2.5)));
+        SnapshotBuffer snapshots = hippodrome.enableSnapshots();
+        assertThrows(TimeoutException.class, () -> snapshots.awaitTick(0, Duration.ofMillis(20)));
+    }
+
+    /** Проверка: читатели никогда не видят разорванное состояние во время публикации. */
+    @Test
+    void readersNeverSeeTornState() throws Exception {
+        SnapshotBuffer snapshots = new SnapshotBuffer();
+        int size = 4096;
+        String[] names = new String[size];
+        Arrays.fill(names, "Horse");
+        double[] speeds = new double[size];
+        double[] distances = new double[size];
+        snapshots.publish(0, 0, size, names, speeds, distances);
+        AtomicBoolean running = new AtomicBoolean(true);
+        AtomicLong torn = new AtomicLong();
+        AtomicLong reads = new AtomicLong();
+        CompletableFuture<?>[] readers = new CompletableFuture<?>[2];
+        for (int r = 0; r < readers.length; r++) {
+            readers[r] = CompletableFuture.runAsync(() -> {
+                while (running.get()) {
+                    RaceSnapshot snapshot = snapshots.snapshot();
+                    for (int i = 0; i < size; i++) {
+                        if (snapshot.getDistance(i) != snapshot.getTick()) {
+                            torn.incrementAndGet();
+                            break;
+                        }
+                    }
+                    reads.incrementAndGet();
+                }
+            });
+        }
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(300);
+        for (long tick = 1; System.nanoTime() < deadline || reads.get() < 100; tick++) {
+            Arrays.fill(distances, tick);
+            snapshots.publish(tick, 0, size, names, speeds, distances);
+            if (tick % 64 == 0) {
+                Thread.yield();
+            }
+        }
+        running.set(false);
+        CompletableFuture.allOf(readers).get(5, TimeUnit.SECONDS);
+        assertEquals(0, torn.get());
+        assertTrue(reads.get() >= 100);
+    }
+}
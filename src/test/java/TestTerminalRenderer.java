@@ -0,0 +1,133 @@
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Класс {@code TestTerminalRenderer} содержит модульные тесты для проверки корректности работы класса {@link TerminalRenderer}.
+ * Использует JUnit 5 для тестирования вывода кадров в буфер вместо терминала.
+ *
+ * <p>Основные проверки:
+ * <ul>
+ *     <li>Валидация аргументов конструктора.</li>
+ *     <li>Первый кадр очищает экран и рисует лидеров по местам.</li>
+ *     <li>Повторный кадр без изменений не перерисовывает строки.</li>
+ *     <li>Изменённые ячейки выводятся через позиционирование курсора ANSI.</li>
+ *     <li>Ограничение частоты кадров и области просмотра.</li>
+ *     <li>Кадр из снимка {@link RaceSnapshot} совпадает с кадром из {@link Hippodrome}.</li>
+ * </ul>
+ *
+ * Пример использования:
+ * <pre>{@code
+ * TerminalRenderer renderer = new TerminalRenderer(channel, 10, 120, 30);
+ * renderer.render(hippodrome);
+ * }</pre>
+ */
+class TestTerminalRenderer {
+
+    private final ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+    /** Проверка: сообщения исключений при некорректных аргументах конструктора. */
+    @Test
+    void invalidArguments() {
+        assertEquals("Output cannot be null.", assertThrows(IllegalArgumentException.class,
+                () -> new TerminalRenderer(null, 1, 1, 0)).getMessage());
+        assertEquals("Rows must be positive.", assertThrows(IllegalArgumentException.class,
+                () -> new TerminalRenderer(Channels.newChannel(output), 0, 1, 0)).getMessage());
+        assertEquals("Width must be positive.", assertThrows(IllegalArgumentException.class,
+                () -> new TerminalRenderer(Channels.newChannel(output), 1, 0, 0)).getMessage());
+        assertEquals("FPS cannot be negative.", assertThrows(IllegalArgumentException.class,
+                () -> new TerminalRenderer(Channels.newChannel(output), 1, 1, -1)).getMessage());
+    }
+
+    /** Проверка: первый кадр очищает экран и выводит лошадей в порядке мест. */
+    @Test
+    void firstFrameDrawsLeaders() throws IOException {
+        Hippodrome hippodrome = new Hippodrome(List.of(new Horse("Slow", 1.0, 2.0), new Horse("Fast", 1.0, 4.0)));
+        TerminalRenderer renderer = new TerminalRenderer(Channels.newChannel(output), 2, 20, 0);
+        assertTrue(renderer.render(hippodrome));
+        String frame = text();
+        assertTrue(frame.startsWith("\033[2J"));
+        assertTrue(frame.contains("\033[1;1H....Fast"));
+        assertTrue(frame.contains("\033[2;1H..Slow"));
+    }
+
+    /** Проверка: кадр без изменений содержит только позиционирование курсора под областью. */
+    @Test
+    void unchangedFrameIsEmpty() throws IOException {
+        Hippodrome hippodrome = new Hippodrome(List.of(new Horse("Name", 1.0, 2.0)));
+        TerminalRenderer renderer = new TerminalRenderer(Channels.newChannel(output), 1, 20, 0);
+        renderer.render(hippodrome);
+        output.reset();
+        renderer.render(hippodrome);
+        assertEquals("\033[2;1H", text());
+    }
+
+    /** Проверка: при изменении дистанции выводятся только изменившиеся ячейки строки. */
+    @Test
+    void onlyChangedCellsAreWritten() throws IOException {
+        Horse horse = new Horse("Name", 1.0, 2.0);
+        Hippodrome hippodrome = new Hippodrome(List.of(horse));
+        TerminalRenderer renderer = new TerminalRenderer(Channels.newChannel(output), 1, 20, 0);
+        renderer.render(hippodrome);
+        output.reset();
+        Hippodrome moved = new Hippodrome(List.of(new Horse("Name", 1.0, 3.0)));
+        renderer.render(moved);
+        assertEquals("\033[1;3H.Name\033[2;1H", text());
+    }
+
+    /** Проверка: область просмотра ограничивает количество строк лидерами. */
+    @Test
+    void viewportShowsTopRows() throws IOException {
+        Hippodrome hippodrome = new Hippodrome(List.of(
+                new Horse("Third", 1.0, 1.0), new Horse("First", 1.0, 3.0), new Horse("Second", 1.0, 2.0)));
+        TerminalRenderer renderer = new TerminalRenderer(Channels.newChannel(output), 2, 20, 0);
+        renderer.render(hippodrome);
+        String frame = text();
+        assertTrue(frame.contains("First"));
+        assertTrue(frame.contains("Second"));
+        assertFalse(frame.contains("Third"));
+    }
+
+    /** Проверка: кадр из снимка совпадает с кадром из живого ипподрома. */
+    @Test
+    void snapshotFrameMatchesHippodrome() throws IOException {
+        Hippodrome hippodrome = new Hippodrome(List.of(
+                new Horse("Third", 1.0, 1.0), new Horse("First", 1.0, 3.0), new Horse("Second", 1.0, 2.0)));
+        new TerminalRenderer(Channels.newChannel(output), 2, 20, 0).render(hippodrome);
+        String expected = text();
+        output.reset();
+        new TerminalRenderer(Channels.newChannel(output), 2, 20, 0).render(hippodrome.enableSnapshots().snapshot());
+        assertEquals(expected, text());
+    }
+
+    /** Проверка: при ограничении частоты кадров слишком частый кадр пропускается. */
+    @Test
+    void fpsCapSkipsFrames() throws IOException {
+        Hippodrome hippodrome = new Hippodrome(List.of(new Horse("Name", 1.0)));
+        TerminalRenderer renderer = new TerminalRenderer(Channels.newChannel(output), 1, 20, 1);
+        assertTrue(renderer.render(hippodrome));
+        assertFalse(renderer.render(hippodrome));
+    }
+
+    /** Проверка: дистанция масштабируется, если лидер не помещается в ширину дорожки. */
+    @Test
+    void distanceScaledToWidth() throws IOException {
+        Hippodrome hippodrome = new Hippodrome(List.of(new Horse("Name", 1.0, 100.0)));
+        TerminalRenderer renderer = new TerminalRenderer(Channels.newChannel(output), 1, 10, 0);
+        renderer.render(hippodrome);
+        assertTrue(text().contains("......Name"));
+    }
+
+    private String text() {
+        return output.toString(StandardCharsets.UTF_8);
+    }
+}
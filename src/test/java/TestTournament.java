@@ -0,0 +1,172 @@
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Класс {@code TestTournament} содержит модульные тесты для проверки корректности работы класса {@link Tournament}.
+ * Использует JUnit 5 для тестирования турнира на выбывание с конвейерным запуском забегов.
+ *
+ * <p>Основные проверки:
+ * <ul>
+ *     <li>Валидация правил сетки.</li>
+ *     <li>Разбиение участников на забеги и число прошедших в следующий раунд.</li>
+ *     <li>Забег следующего раунда зависит только от своих забегов-источников и стартует после них.</li>
+ *     <li>Результат воспроизводим при одинаковом seed, победитель — исходный объект {@link Horse}.</li>
+ *     <li>Закрытие из прерванного потока не бросает исключение и сохраняет флаг прерывания.</li>
+ * </ul>
+ *
+ * Пример использования:
+ * <pre>{@code
+ * try (Tournament tournament = new Tournament(entrants, 8, 2, 3, 100)) {
+ *     Horse champion = tournament.run(42).getChampion();
+ * }
+ * }</pre>
+ */
+class TestTournament {
+
+    private static List<Horse> entrants(int size) {
+        List<Horse> horses = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            horses.add(new Horse("Horse" + i, 2.0 + (i % 10) / 10.0));
+        }
+        return horses;
+    }
+
+    /** Проверка: недопустимые правила сетки отклоняются с понятным сообщением. */
+    @Test
+    void rejectsInvalidRules() {
+        List<Horse> horses = entrants(16);
+        assertEquals("Threads must be positive.", assertThrows(IllegalArgumentException.class,
+                () -> new Tournament(0, horses, 4, 2, 2, 10)).getMessage());
+        assertEquals("Horses cannot be null.", assertThrows(IllegalArgumentException.class,
+                () -> new Tournament(null, 4, 2, 2, 10)).getMessage());
+        assertEquals("Horses cannot be empty.", assertThrows(IllegalArgumentException.class,
+                () -> new Tournament(List.of(), 4, 2, 2, 10)).getMessage());
+        assertEquals("Heat size must be at least 2.", assertThrows(IllegalArgumentException.class,
+                () -> new Tournament(horses, 1, 1, 2, 10)).getMessage());
+        assertEquals("Advancers must be positive and less than heat size.", assertThrows(IllegalArgumentException.class,
+                () -> new Tournament(horses, 4, 4, 2, 10)).getMessage());
+        assertEquals("Rounds must be positive.", assertThrows(IllegalArgumentException.class,
+                () -> new Tournament(horses, 4, 2, 0, 10)).getMessage());
+        assertEquals("Ticks must be positive.", assertThrows(IllegalArgumentException.class,
+                () -> new Tournament(horses, 4, 2, 2, 0)).getMessage());
+        assertEquals("Bracket must end with a single final heat in the last round.",
+                assertThrows(IllegalArgumentException.class, () -> new Tournament(horses, 4, 2, 2, 10)).getMessage());
+        assertEquals("Bracket must end with a single final heat in the last round.",
+                assertThrows(IllegalArgumentException.class, () -> new Tournament(horses, 4, 2, 4, 10)).getMessage());
+    }
+
+    /** Проверка: участники делятся на равные забеги, из каждого проходят лучшие. */
+    @Test
+    void bracketAdvancesTopFinishers() {
+        try (Tournament tournament = new Tournament(2, entrants(100), 10, 3, 3, 50)) {
+            assertEquals(3, tournament.getRounds());
+            assertEquals(10, tournament.getHeats(0));
+            assertEquals(3, tournament.getHeats(1));
+            assertEquals(1, tournament.getHeats(2));
+
+            Tournament.Result result = tournament.run(7);
+            List<Tournament.Round> rounds = result.getRounds();
+            assertEquals(100, rounds.get(0).getEntrants());
+            assertEquals(30, rounds.get(1).getEntrants());
+            assertEquals(9, rounds.get(2).getEntrants());
+
+            for (int round = 0; round + 1 < rounds.size(); round++) {
+                Set<Horse> qualified = new HashSet<>();
+                for (Tournament.Heat heat : rounds.get(round).getHeats()) {
+                    assertEquals(3, heat.getQualifiers().size());
+                    assertEquals(10, heat.getEntrants());
+                    qualified.addAll(heat.getQualifiers());
+                }
+                Set<Horse> next = new HashSet<>();
+                for (Tournament.Heat heat : rounds.get(round + 1).getHeats()) {
+                    next.addAll(heat.getFinishOrder());
+                }
+                assertEquals(qualified, next);
+            }
+            assertSame(result.getFinal().getWinner(), result.getChampion());
+            assertTrue(rounds.get(2).getHeats().get(0).getFinishOrder().contains(result.getChampion()));
+        }
+    }
+
+    /** Проверка: забег следующего раунда ждёт только своих источников и стартует после их финиша. */
+    @Test
+    void heatsArePipelined() {
+        try (Tournament tournament = new Tournament(4, entrants(64), 8, 2, 3, 20)) {
+            assertArrayEquals(new int[]{0, 1, 2, 3}, tournament.feeders(1, 0));
+            assertArrayEquals(new int[]{4, 5, 6, 7}, tournament.feeders(1, 1));
+            assertArrayEquals(new int[]{0, 1}, tournament.feeders(2, 0));
+
+            Tournament.Result result = tournament.run(3);
+            List<Tournament.Round> rounds = result.getRounds();
+            for (int round = 1; round < rounds.size(); round++) {
+                for (Tournament.Heat heat : rounds.get(round).getHeats()) {
+                    for (int feeder : tournament.feeders(round, heat.getIndex())) {
+                        Tournament.Heat source = rounds.get(round - 1).getHeats().get(feeder);
+                        assertTrue(heat.getStart().compareTo(source.getEnd()) >= 0);
+                        assertTrue(heat.getFinishOrder().containsAll(source.getQualifiers()));
+                    }
+                }
+            }
+        }
+    }
+
+    /** Проверка: feeders учитывает забеги разного размера на границах. */
+    @Test
+    void feedersCoverUnevenHeats() {
+        try (Tournament tournament = new Tournament(1, entrants(10), 4, 2, 3, 5)) {
+            assertEquals(3, tournament.getHeats(0));
+            assertEquals(2, tournament.getHeats(1));
+            assertArrayEquals(new int[]{0, 1}, tournament.feeders(1, 0));
+            assertArrayEquals(new int[]{1, 2}, tournament.feeders(1, 1));
+            assertArrayEquals(new int[]{0, 1}, tournament.feeders(2, 0));
+        }
+    }
+
+    /** Проверка: одинаковый seed даёт одинаковый результат при любом числе потоков, победитель — исходный объект. */
+    @Test
+    void runIsReproducible() {
+        List<Horse> horses = entrants(81);
+        List<Horse> expected;
+        try (Tournament tournament = new Tournament(3, horses, 9, 1, 2, 30)) {
+            Tournament.Result first = tournament.run(11);
+            Tournament.Result second = tournament.run(11);
+            expected = first.getFinal().getFinishOrder();
+            assertEquals(expected, second.getFinal().getFinishOrder());
+            assertTrue(horses.stream().anyMatch(horse -> horse == first.getChampion()));
+            assertTrue(first.getElapsed().compareTo(first.getRounds().get(1).getEnd()) >= 0);
+        }
+        try (Tournament tournament = new Tournament(1, horses, 9, 1, 2, 30)) {
+            assertEquals(expected, tournament.run(11).getFinal().getFinishOrder());
+        }
+    }
+
+    /** Проверка: закрытый турнир не принимает новые запуски. */
+    @Test
+    void closedTournamentRejectsRun() {
+        Tournament tournament = new Tournament(entrants(4), 4, 1, 1, 5);
+        assertEquals(4, tournament.run(1).getFinal().getEntrants());
+        tournament.close();
+        assertThrows(RejectedExecutionException.class, () -> tournament.run(1));
+    }
+
+    /** Проверка: закрытие из прерванного потока останавливает пул и сохраняет флаг прерывания. */
+    @Test
+    void interruptedCloseKeepsFlag() {
+        Tournament tournament = new Tournament(entrants(4), 4, 1, 1, 5);
+        Thread.currentThread().interrupt();
+        tournament.close();
+        assertTrue(Thread.interrupted());
+        assertThrows(RejectedExecutionException.class, () -> tournament.run(1));
+    }
+}